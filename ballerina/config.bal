@@ -0,0 +1,108 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+# Represents the configurations of an `avro:Schema`.
+#
+# + stringCacheSize - The maximum number of distinct `string` values and map keys to intern while deserializing.
+#                     Repeated low-cardinality values such as status codes then share a single instance across
+#                     messages. Set to `0` to disable the cache
+# + profileFields - Whether to record the time taken and the bytes written by each field of the records. The results
+#                   are returned by `getFieldProfiles`. Profiling slows down serialization, so it is disabled by default
+# + encodedValueCacheSize - The maximum number of `readonly` maps, records and arrays whose encodings are cached by
+#                           `toAvro`. Serializing the same `readonly` value again then copies the cached encoding.
+#                           The cache does not keep the values alive. Set to `0` to disable the cache
+# + decodedValueCacheSize - The maximum memory in bytes held by the values cached by `fromAvro`, estimated as the size
+#                           of each payload plus the size of the value decoded from it. Only values of `readonly`
+#                           target types are cached, and a payload decoded again to the same type returns the cached
+#                           value. Set to `0` to disable the cache
+# + compileSerializer - Whether `toAvro` writes values with a plan compiled from the schema, instead of converting
+#                       them to Avro values first. Schemas the plan does not support, and values it fails on, are
+#                       serialized as usual
+public type SchemaConfig record {|
+    int stringCacheSize = 0;
+    boolean profileFields = false;
+    int encodedValueCacheSize = 0;
+    int decodedValueCacheSize = 0;
+    boolean compileSerializer = false;
+|};
+
+# Represents the cumulative cost of a record field, recorded when `profileFields` is enabled.
+#
+# + path - The dot-separated path of the field from the root record, e.g., `address.city`
+# + encodeCount - The number of times the field was serialized
+# + encodeNanos - The total time taken to serialize the field in nanoseconds, including its nested fields
+# + encodedBytes - The total number of bytes written for the field, including its nested fields
+# + decodeCount - The number of times the field was deserialized
+# + decodeNanos - The total time taken to deserialize the field in nanoseconds, including its nested fields
+public type FieldProfile record {|
+    string path;
+    int encodeCount;
+    int encodeNanos;
+    int encodedBytes;
+    int decodeCount;
+    int decodeNanos;
+|};
+
+# Represents the statistics of the decoded value cache of an `avro:Schema`.
+#
+# + hits - The number of `fromAvro` calls which returned a cached value
+# + misses - The number of `fromAvro` calls with a `readonly` target type which decoded the payload
+# + entries - The number of values in the cache
+# + bytes - The estimated memory held by the cache, i.e., the sizes of the payloads and of the decoded values
+public type DecodedValueCacheStats record {|
+    int hits;
+    int misses;
+    int entries;
+    int bytes;
+|};
+
+# Represents the options of the Avro binary encoding.
+#
+# + blockSize - The maximum size of a block of array items or map entries in bytes. When set, arrays and maps are
+#               written in blocks, each prefixed with its size in bytes, so readers can skip them without decoding
+#               their items. Set to `0` to write each array and map as a single block
+# + canonical - Whether to write the entries of maps sorted by their keys, so that equal values always have the same
+#               encoding regardless of the order in which the map entries were added
+public type EncodingConfig record {|
+    int blockSize = 0;
+    boolean canonical = false;
+|};
+
+# Represents the configurations of an `avro:Writer`.
+#
+# + bufferSize - The number of encoded bytes to buffer before they are written to the channel
+public type WriterConfig record {|
+    int bufferSize = 65536;
+    *EncodingConfig;
+|};
+
+# Represents the configurations of an `avro:Reader`.
+#
+# + bufferSize - The number of bytes to read from the channel at a time
+public type ReaderConfig record {|
+    int bufferSize = 65536;
+|};
+
+# Represents the configurations of an `avro:Sorter`.
+#
+# + runSize - The number of encoded bytes to sort in memory. When the messages added exceed this size, they are sorted
+#             and spilled to a temporary file, and the spilled runs are merged at the end
+# + tempDirectory - The directory to create the spilled runs in. If not provided, the default temporary directory
+#                   of the system is used
+public type SorterConfig record {|
+    int runSize = 67108864;
+    string tempDirectory?;
+|};
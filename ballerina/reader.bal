@@ -0,0 +1,128 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+import ballerina/jballerina.java;
+
+# Reads a sequence of values encoded back-to-back with the same Avro schema, such as the output of an `avro:Writer`.
+# The bytes are read from the channel in chunks of `bufferSize`, and a value may span several chunks.
+public isolated class Reader {
+
+    private final io:ReadableByteChannel? channel;
+    private final int bufferSize;
+
+    # Initializes the reader.
+    #
+    # ```ballerina
+    # avro:Reader reader = new (schema, check io:openReadableFile("./orders.avro"));
+    # ```
+    #
+    # + schema - The Avro schema of the values
+    # + source - The channel to read the encoded values from, or the encoded values
+    # + config - The configurations of the reader
+    public isolated function init(Schema schema, io:ReadableByteChannel|byte[] source, *ReaderConfig config) {
+        self.channel = source is byte[] ? () : source;
+        self.bufferSize = config.bufferSize;
+        self.initReader(schema, config.bufferSize);
+        if source is byte[] {
+            self.feed(source);
+        }
+    }
+
+    isolated function initReader(Schema schema, int bufferSize) = @java:Method {
+        'class: "io.ballerina.lib.avro.Reader"
+    } external;
+
+    # Checks whether another value is available, reading from the channel until the value is complete.
+    #
+    # ```ballerina
+    # while check reader.hasNext() {
+    #     Order value = check reader.next();
+    # }
+    # ```
+    #
+    # + return - `true` if another value is available, `false` at the end of the input, or an `avro:Error` if the
+    #            input could not be read or ends in the middle of a value
+    public isolated function hasNext() returns boolean|Error {
+        lock {
+            boolean hasCompleteValue = check self.hasCompleteValue();
+            while !hasCompleteValue {
+                io:ReadableByteChannel? channel = self.channel;
+                if channel is () {
+                    return self.endOfInput();
+                }
+                byte[]|io:Error chunk = channel.read(self.bufferSize);
+                if chunk is io:EofError {
+                    return self.endOfInput();
+                }
+                if chunk is io:Error {
+                    return error Error("Failed to read the encoded values from the channel", chunk);
+                }
+                self.feed(chunk);
+                hasCompleteValue = check self.hasCompleteValue();
+            }
+            return true;
+        }
+    }
+
+    isolated function endOfInput() returns boolean|Error {
+        if self.hasPendingBytes() {
+            return error Error("The input ends in the middle of a value");
+        }
+        return false;
+    }
+
+    isolated function feed(byte[] bytes) = @java:Method {
+        'class: "io.ballerina.lib.avro.Reader"
+    } external;
+
+    isolated function hasCompleteValue() returns boolean|Error = @java:Method {
+        'class: "io.ballerina.lib.avro.Reader"
+    } external;
+
+    isolated function hasPendingBytes() returns boolean = @java:Method {
+        'class: "io.ballerina.lib.avro.Reader"
+    } external;
+
+    # Deserializes the next value to the given data type. `hasNext` must have returned `true` before.
+    #
+    # ```ballerina
+    # Order value = check reader.next();
+    # ```
+    #
+    # + targetType - The type to be deserialized, inferred from the return type
+    # + return - The deserialized value or else an `avro:Error`
+    public isolated function next(typedesc<anydata> targetType = <>) returns targetType|Error = @java:Method {
+        'class: "io.ballerina.lib.avro.Reader"
+    } external;
+
+    # Closes the channel.
+    #
+    # ```ballerina
+    # check reader.close();
+    # ```
+    #
+    # + return - An `avro:Error` if the channel could not be closed, otherwise nil
+    public isolated function close() returns Error? {
+        io:ReadableByteChannel? channel = self.channel;
+        if channel !is () {
+            io:Error? result = channel.close();
+            if result is io:Error {
+                return error Error("Failed to close the channel", result);
+            }
+        }
+    }
+}
@@ -17,7 +17,7 @@
 import ballerina/jballerina.java;
 
 # The avro schema implementation to support Avro serialization and deserialization.
-public class Schema {
+public isolated class Schema {
 
     # Initializes the Avro schema with the given schema definition.
     #
@@ -26,12 +26,13 @@ public class Schema {
     # ```
     #
     # + schema - The Avro schema definition as a string
+    # + config - The configurations of the schema
     # + return - An `avro:Error` if the schema is not valid, otherwise nil
-    public isolated function init(string schema) returns Error? {
-        self.generateSchema(schema);
+    public isolated function init(string schema, *SchemaConfig config) returns Error? {
+        self.generateSchema(schema, config);
     }
 
-    isolated function generateSchema(string schema) = @java:Method {
+    isolated function generateSchema(string schema, SchemaConfig config) = @java:Method {
         'class: "io.ballerina.lib.avro.Avro"
     } external;
 
@@ -44,8 +45,69 @@ public class Schema {
     # ```
     #
     # + data - The data to be serialized
+    # + config - The options of the encoding
     # + return - A `byte` array of the serialized data or else an `avro:Error`
-    public isolated function toAvro(anydata data) returns byte[]|Error = @java:Method {
+    public isolated function toAvro(anydata data, *EncodingConfig config) returns byte[]|Error = @java:Method {
+        'class: "io.ballerina.lib.avro.Avro"
+    } external;
+
+    # Serializes the given data according to the Avro format into a sequence of segments, which concatenate to the
+    # result of `toAvro`. A large message then does not need a single contiguous array.
+    #
+    # ```ballerina
+    # byte[][] segments = check schema.toAvroSegments(data);
+    # foreach byte[] segment in segments {
+    #     _ = check channel.write(segment, 0);
+    # }
+    # ```
+    #
+    # + data - The data to be serialized
+    # + segmentSize - The size of each segment in bytes. Only the last segment may be shorter
+    # + return - The segments of the serialized data or else an `avro:Error`
+    public isolated function toAvroSegments(anydata data, int segmentSize = 65536)
+        returns byte[][]|Error = @java:Method {
+        'class: "io.ballerina.lib.avro.Avro"
+    } external;
+
+    # Computes the size of the Avro encoding of the given data, without serializing it.
+    #
+    # ```ballerina
+    # avro:Schema schema = check new(string `{"type": "string", "name" : "data", "namespace": "example.avro" }`);
+    # int size = check schema.encodedSize("Hello"); // 6
+    # ```
+    #
+    # + data - The data to be measured
+    # + return - The number of bytes `toAvro` would produce for the data or else an `avro:Error`
+    public isolated function encodedSize(anydata data) returns int|Error = @java:Method {
+        'class: "io.ballerina.lib.avro.Avro"
+    } external;
+
+    # Computes a 64-bit hash of the given data, which is the FNV-1a hash of its canonical Avro encoding. Equal values
+    # have the same hash, and the hash is stable across processes, so it can be used to deduplicate and partition
+    # data. The encoding is hashed as it is written, without being held in memory. The value is written with a plan
+    # compiled from the schema, without converting it to an Avro datum first, so the remaining allocations are the
+    # sorted keys of each map and the UTF-8 bytes of each string. Values of schemas which the plan does not support,
+    # such as unions of several numeric types, are converted first.
+    #
+    # ```ballerina
+    # int hash = check schema.hash(data);
+    # ```
+    #
+    # + data - The data to be hashed
+    # + return - The hash of the data or else an `avro:Error`
+    public isolated function hash(anydata data) returns int|Error = @java:Method {
+        'class: "io.ballerina.lib.avro.Avro"
+    } external;
+
+    # Returns the running estimate of the encoded message size, which is used to presize the buffers of `toAvro`.
+    # The estimate rises to a larger message immediately and falls back gradually over smaller messages.
+    #
+    # ```ballerina
+    # int estimate = schema.getEncodedSizeEstimate();
+    # ```
+    #
+    # + return - The estimated size of an encoded message in bytes
+    public isolated function getEncodedSizeEstimate() returns int = @java:Method {
         'class: "io.ballerina.lib.avro.Avro"
     } external;
 
@@ -64,4 +126,127 @@ public class Schema {
         returns targetType|Error = @java:Method {
         'class: "io.ballerina.lib.avro.Avro"
     } external;
+
+    # Deserializes the given Avro encoded message straight into an existing mutable record, overwriting its fields.
+    # The nested records, maps and arrays already held by the record are written in place, and arrays are truncated
+    # or grown to the decoded length, so the containers of the record can be reused across messages. The record may be
+    # left partially overwritten if an error is returned.
+    #
+    # ```ballerina
+    # Order 'order = {id: "", items: []};
+    # check schema.fromAvroInto(data, 'order);
+    # ```
+    #
+    # + data - The Avro serialized data to be deserialized
+    # + target - The mutable record to be overwritten with the deserialized data
+    # + return - An `avro:Error` if the data cannot be deserialized to the type of the record
+    public isolated function fromAvroInto(byte[] data, record {} target) returns Error? = @java:Method {
+        'class: "io.ballerina.lib.avro.Avro"
+    } external;
+
+    # Deserializes the given Avro encoded message, split into a sequence of segments, to the given data type.
+    #
+    # ```ballerina
+    # byte[][] segments = check schema.toAvroSegments(data);
+    # Order value = check schema.fromAvroSegments(segments);
+    # ```
+    #
+    # + data - The segments of the Avro serialized data, in order
+    # + targetType - The type to be deserialized, inferred from the return type
+    # + return - A deserialized data for the given type or else an `avro:Error`
+    public isolated function fromAvroSegments(byte[][] data, typedesc<anydata> targetType = <>)
+        returns targetType|Error = @java:Method {
+        'class: "io.ballerina.lib.avro.Avro"
+    } external;
+
+    # Reads the value of a single field from the given Avro encoded message. The fields preceding the field are skipped
+    # without being decoded, and only the value of the field is deserialized.
+    #
+    # ```ballerina
+    # string customerId = check schema.extract(data, "customer.id");
+    # ```
+    #
+    # + data - The Avro serialized data
+    # + path - The dot-separated path of the field from the root record, e.g., `customer.id`
+    # + targetType - The type of the field value, inferred from the return type
+    # + return - The value of the field, nil if a record on the path is nil, or else an `avro:Error`
+    public isolated function extract(byte[] data, string path, typedesc<anydata> targetType = <>)
+        returns targetType|Error = @java:Method {
+        'class: "io.ballerina.lib.avro.Avro"
+    } external;
+
+    # Compares two Avro encoded messages in the sort order of the schema, without deserializing them. Record fields
+    # are compared in order, honouring their `order` attributes, and fields with `"order": "ignore"` are skipped.
+    #
+    # ```ballerina
+    # int result = check schema.compare(first, second);
+    # ```
+    #
+    # + first - The first Avro serialized message
+    # + second - The second Avro serialized message
+    # + return - A negative value, zero or a positive value if the first message sorts before, equal to or after the
+    #            second message respectively, or else an `avro:Error`
+    public isolated function compare(byte[] first, byte[] second) returns int|Error = @java:Method {
+        'class: "io.ballerina.lib.avro.Avro"
+    } external;
+
+    # Sorts the given Avro encoded messages in the sort order of the schema, without deserializing them. The sort is
+    # stable, so messages which compare equal stay in their original order, next to each other.
+    #
+    # ```ballerina
+    # byte[][] sorted = check schema.sort(messages);
+    # ```
+    #
+    # + data - The Avro serialized messages
+    # + return - A new array of the messages in sorted order or else an `avro:Error`
+    public isolated function sort(byte[][] data) returns byte[][]|Error = @java:Method {
+        'class: "io.ballerina.lib.avro.Avro"
+    } external;
+
+    # Warms up the schema for the given target types, so that the first messages of a service are not slowed down by
+    # class loading and lazy initialization. A synthetic message generated from the schema is deserialized to each
+    # target type and serialized back a number of times. The metrics, field profiles and value caches of the schema
+    # are not affected.
+    #
+    # ```ballerina
+    # check schema.warmup(Order, Order & readonly);
+    # ```
+    #
+    # + targetTypes - The types which the messages are deserialized to
+    # + return - An `avro:Error` if a synthetic message cannot be deserialized to a target type and serialized back
+    public isolated function warmup(typedesc<anydata>... targetTypes) returns Error? = @java:Method {
+        'class: "io.ballerina.lib.avro.Avro"
+    } external;
+
+    # Returns the statistics of the decoded value cache, when `decodedValueCacheSize` is set.
+    #
+    # ```ballerina
+    # avro:DecodedValueCacheStats? stats = schema.getDecodedValueCacheStats();
+    # ```
+    #
+    # + return - The statistics of the cache, or nil if the cache is disabled
+    public isolated function getDecodedValueCacheStats() returns DecodedValueCacheStats? = @java:Method {
+        'class: "io.ballerina.lib.avro.Avro"
+    } external;
+
+    # Returns the cumulative costs of the record fields, when `profileFields` is enabled.
+    #
+    # ```ballerina
+    # avro:Schema schema = check new (schemaDefinition, profileFields = true);
+    # avro:FieldProfile[] profiles = schema.getFieldProfiles();
+    # ```
+    #
+    # + return - The costs of the fields ordered from the most expensive, or an empty array if profiling is disabled
+    public isolated function getFieldProfiles() returns FieldProfile[] = @java:Method {
+        'class: "io.ballerina.lib.avro.Avro"
+    } external;
+
+    # Clears the costs of the record fields recorded so far.
+    #
+    # ```ballerina
+    # schema.resetFieldProfiles();
+    # ```
+    public isolated function resetFieldProfiles() = @java:Method {
+        'class: "io.ballerina.lib.avro.Avro"
+    } external;
 }
@@ -0,0 +1,87 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Sorts Avro encoded messages of a schema in the sort order of the schema, comparing their encodings without
+# deserializing them. Datasets larger than `runSize` are sorted in runs, which are spilled to temporary files and
+# merged into the output.
+public isolated class Sorter {
+
+    # Initializes the sorter.
+    #
+    # ```ballerina
+    # avro:Sorter sorter = new (schema, runSize = 268435456);
+    # ```
+    #
+    # + schema - The Avro schema of the messages
+    # + config - The configurations of the sorter
+    public isolated function init(Schema schema, *SorterConfig config) {
+        self.initSorter(schema, config);
+    }
+
+    isolated function initSorter(Schema schema, SorterConfig config) = @java:Method {
+        'class: "io.ballerina.lib.avro.Sorter"
+    } external;
+
+    # Adds an Avro encoded message.
+    #
+    # ```ballerina
+    # check sorter.add(check schema.toAvro(value));
+    # ```
+    #
+    # + data - The Avro serialized message
+    # + return - An `avro:Error` if the data is not a single message of the schema or a run could not be spilled
+    public isolated function add(byte[] data) returns Error? = @java:Method {
+        'class: "io.ballerina.lib.avro.Sorter"
+    } external;
+
+    # Adds the messages of an Avro container file, which must be written with the schema of the sorter.
+    #
+    # ```ballerina
+    # check sorter.addFile("./extract.avro");
+    # ```
+    #
+    # + path - The path of the container file
+    # + return - An `avro:Error` if the file could not be read or a run could not be spilled
+    public isolated function addFile(string path) returns Error? = @java:Method {
+        'class: "io.ballerina.lib.avro.Sorter"
+    } external;
+
+    # Writes all the messages added so far in sorted order to an Avro container file. The sort is stable, so messages
+    # which compare equal keep the order in which they were added. The sorter is then empty and can be reused.
+    #
+    # ```ballerina
+    # check sorter.sort("./extract-sorted.avro");
+    # ```
+    #
+    # + path - The path of the container file to write
+    # + return - An `avro:Error` if the sorted messages could not be written
+    public isolated function sort(string path) returns Error? = @java:Method {
+        'class: "io.ballerina.lib.avro.Sorter"
+    } external;
+
+    # Discards the messages added and deletes the temporary files of the sorter.
+    #
+    # ```ballerina
+    # check sorter.close();
+    # ```
+    #
+    # + return - An `avro:Error` if the temporary files could not be deleted
+    public isolated function close() returns Error? = @java:Method {
+        'class: "io.ballerina.lib.avro.Sorter"
+    } external;
+}
@@ -369,3 +369,93 @@ public isolated function testRecordArraysInReadOnlyArrays() returns error? {
 
     return verifyOperation(ReadOnlyStudent2DArray, students, schema);
 }
+
+@test:Config {
+    groups: ["array"]
+}
+public isolated function testBlockingEncoding() returns error? {
+    string schema = string `
+        {
+            "type": "array",
+            "name" : "stringArray",
+            "namespace": "data",
+            "items": "string"
+        }`;
+
+    string[] values = from int i in 0 ..< 50 select string `value-${i}`;
+    Schema avro = check new (schema);
+    byte[] serializedValue = check avro.toAvro(values);
+    byte[] blockedValue = check avro.toAvro(values, blockSize = 64);
+    // The first block holds 8 items of 8 bytes each, so it starts with the count -8 and the byte size 64, zigzag
+    // encoded, while the single block of the plain encoding starts with the count 50.
+    test:assertEquals(blockedValue.slice(0, 3), [15, 128, 1]);
+    test:assertEquals(serializedValue[0], 100);
+    test:assertNotEquals(blockedValue, serializedValue);
+    string[] deserializedValue = check avro.fromAvro(blockedValue);
+    test:assertEquals(deserializedValue, values);
+
+    Writer writer = new (avro, blockSize = 64);
+    check writer.write(values);
+    check writer.write(values);
+    test:assertEquals(check writer.getBytes(), [...blockedValue, ...blockedValue]);
+    Reader reader = new (avro, check writer.getBytes());
+    while check reader.hasNext() {
+        string[] value = check reader.next();
+        test:assertEquals(value, values);
+    }
+}
+
+@test:Config {
+    groups: ["array"]
+}
+public isolated function testBlockingEncodingHeader() returns error? {
+    string schema = string `
+        {
+            "type": "array",
+            "name" : "stringArray",
+            "namespace": "data",
+            "items": "string"
+        }`;
+
+    string[] values = ["value-0", "value-1", "value-2"];
+    Schema avro = check new (schema);
+    byte[] serializedValue = check avro.toAvro(values);
+    byte[] blockedValue = check avro.toAvro(values, blockSize = 64);
+    // The items fit in a single block, which is prefixed with the count -3 and the byte size 24 instead of the count 3.
+    test:assertEquals(serializedValue.slice(0, 1), [6]);
+    test:assertEquals(blockedValue.slice(0, 2), [5, 48]);
+    test:assertEquals(blockedValue.slice(2), serializedValue.slice(1));
+    string[] deserializedValue = check avro.fromAvro(blockedValue);
+    test:assertEquals(deserializedValue, values);
+}
+
+@test:Config {
+    groups: ["array", "record"]
+}
+public isolated function testExtractAfterBlockedArray() returns error? {
+    string schema = string `
+        {
+            "type": "record",
+            "name": "Catalog",
+            "namespace": "data",
+            "fields": [
+                {"name": "items", "type": {"type": "array", "items": "string"}},
+                {"name": "prices", "type": {"type": "map", "values": "double"}},
+                {"name": "name", "type": "string"}
+            ]
+        }`;
+
+    record {string[] items; map<float> prices; string name;} catalog = {
+        items: from int i in 0 ..< 200 select string `item-${i}`,
+        prices: map from int i in 0 ..< 50 select [string `item-${i}`, <float>i * 1.5],
+        name: "spring"
+    };
+    Schema avro = check new (schema);
+    // The array spans many blocks of at most 64 bytes, which are skipped by their byte sizes.
+    byte[] blockedValue = check avro.toAvro(catalog, blockSize = 64);
+    test:assertNotEquals(blockedValue, check avro.toAvro(catalog));
+    string name = check avro.extract(blockedValue, "name");
+    test:assertEquals(name, "spring");
+    map<float> prices = check avro.extract(blockedValue, "prices");
+    test:assertEquals(prices, catalog.prices);
+}
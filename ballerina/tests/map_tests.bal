@@ -770,3 +770,184 @@ public isolated function testMapsWithNestedRecordArrayReadOnlyMaps() returns err
     };
     return verifyOperation(ReadOnlyMapOfRecordArray, lecturers, schema);
 }
+
+@test:Config {
+    groups: ["map", "string", "cache"]
+}
+public isolated function testStringMapsWithStringCache() returns error? {
+    string schema = string `
+        {
+            "type": "map",
+            "values" : "string",
+            "default": {}
+        }`;
+
+    Schema avro = check new (schema, stringCacheSize = 16);
+    map<string> statuses = {"order1": "PENDING", "order2": "SHIPPED", "order3": "PENDING"};
+    byte[] serializedValue = check avro.toAvro(statuses);
+    StringMap firstValue = check avro.fromAvro(serializedValue);
+    StringMap secondValue = check avro.fromAvro(serializedValue);
+    test:assertEquals(firstValue, statuses);
+    test:assertEquals(secondValue, statuses);
+}
+
+@test:Config {
+    groups: ["map"]
+}
+public isolated function testCanonicalEncodingAndHash() returns error? {
+    string schema = string `
+        {
+            "type": "map",
+            "values": "int"
+        }`;
+
+    map<int> scores = {};
+    map<int> reversedScores = {};
+    foreach int i in 0 ..< 20 {
+        scores[string `key-${i}`] = i;
+        reversedScores[string `key-${19 - i}`] = 19 - i;
+    }
+    Schema avro = check new (schema);
+    byte[] encoded = check avro.toAvro(scores, canonical = true);
+    test:assertEquals(check avro.toAvro(reversedScores, canonical = true), encoded);
+    map<int> deserializedValue = check avro.fromAvro(encoded);
+    test:assertEquals(deserializedValue, scores);
+
+    test:assertEquals(check avro.hash(scores), check avro.hash(reversedScores));
+    scores["key-0"] = 100;
+    test:assertNotEquals(check avro.hash(scores), check avro.hash(reversedScores));
+}
+
+@test:Config {
+    groups: ["map", "record"]
+}
+public isolated function testHashOfNestedMaps() returns error? {
+    string schema = string `
+        {
+            "namespace": "example.avro",
+            "type": "record",
+            "name": "Inventory",
+            "fields": [
+                {"name": "name", "type": "string"},
+                {"name": "stock", "type": {"type": "map", "values": {"type": "map", "values": "long"}}}
+            ]
+        }`;
+
+    record {} inventory = {name: "Warehouse", stock: {"north": {"apples": 10, "pears": 5}, "south": {"plums": 3}}};
+    record {} reordered = {name: "Warehouse", stock: {"south": {"plums": 3}, "north": {"pears": 5, "apples": 10}}};
+    Schema avro = check new (schema);
+    test:assertEquals(check avro.hash(inventory), check avro.hash(reordered));
+    test:assertEquals(check avro.toAvro(inventory, canonical = true), check avro.toAvro(reordered, canonical = true));
+
+    reordered["stock"] = {"south": {"plums": 4}, "north": {"pears": 5, "apples": 10}};
+    test:assertNotEquals(check avro.hash(inventory), check avro.hash(reordered));
+
+    inventory["stock"] = "none";
+    test:assertTrue(avro.hash(inventory) is Error);
+}
+
+@test:Config {
+    groups: ["map", "int"]
+}
+public isolated function testMapsDecodedWithTargetType() returns error? {
+    string schema = string `
+        {
+            "type": "map",
+            "values": {
+                "type": "map",
+                "values": {
+                    "type": "array",
+                    "items": "int"
+                }
+            }
+        }`;
+
+    map<map<int[]>> colors = {"primary": {"red": [255, 0, 0], "blue": [0, 0, 255]}, "secondary": {}};
+    Schema avro = check new (schema);
+    byte[] serializedValue = check avro.toAvro(colors);
+
+    map<map<int[]>> deserializedValue = check avro.fromAvro(serializedValue);
+    test:assertEquals(deserializedValue, colors);
+    map<int[]> primary = deserializedValue.get("primary");
+    primary.get("red").push(1);
+    primary["green"] = [0, 255, 0];
+    test:assertEquals(primary.length(), 3);
+
+    map<map<int[]> & readonly> & readonly readOnlyValue = check avro.fromAvro(serializedValue);
+    test:assertEquals(readOnlyValue, colors);
+    test:assertTrue(readOnlyValue.get("primary").get("red") is readonly);
+}
+
+@test:Config {
+    groups: ["map", "bytes"]
+}
+public isolated function testReadOnlyMapsOfBytes() returns error? {
+    string schema = string `
+        {
+            "type": "map",
+            "values": "bytes"
+        }`;
+
+    map<byte[]> colors = {"red": "ff0000".toBytes(), "green": "00ff00".toBytes()};
+    Schema avro = check new (schema);
+    byte[] serializedValue = check avro.toAvro(colors);
+
+    map<byte[] & readonly> & readonly deserializedValue = check avro.fromAvro(serializedValue);
+    test:assertEquals(deserializedValue, colors);
+    test:assertTrue(deserializedValue.get("red") is readonly);
+
+    map<byte[]> mutableValue = check avro.fromAvro(serializedValue);
+    mutableValue.get("red").push(0);
+    test:assertEquals(mutableValue.get("red").length(), 7);
+}
+
+@test:Config {
+    groups: ["map", "int", "long"]
+}
+public isolated function testIntMapsDecodedAsFloatAndDecimalMaps() returns error? {
+    string intSchema = string `
+        {
+            "type": "map",
+            "values": "int"
+        }`;
+    string longSchema = string `
+        {
+            "type": "map",
+            "values": "long"
+        }`;
+
+    map<int> counts = {"red": 1, "green": 2};
+    Schema intAvro = check new (intSchema);
+    byte[] serializedValue = check intAvro.toAvro(counts);
+
+    map<float> floatValue = check intAvro.fromAvro(serializedValue);
+    test:assertEquals(floatValue, {"red": 1.0, "green": 2.0});
+    map<decimal> decimalValue = check intAvro.fromAvro(serializedValue);
+    test:assertEquals(decimalValue, {"red": 1d, "green": 2d});
+
+    Schema longAvro = check new (longSchema);
+    serializedValue = check longAvro.toAvro(counts);
+
+    map<float> floatLongValue = check longAvro.fromAvro(serializedValue);
+    test:assertEquals(floatLongValue, {"red": 1.0, "green": 2.0});
+    map<decimal> & readonly decimalLongValue = check longAvro.fromAvro(serializedValue);
+    test:assertEquals(decimalLongValue, {"red": 1d, "green": 2d});
+}
+
+@test:Config {
+    groups: ["map", "float"]
+}
+public isolated function testFloatMapsDecodedAsDecimalMaps() returns error? {
+    string schema = string `
+        {
+            "type": "map",
+            "values": "float"
+        }`;
+
+    map<float> ratios = {"red": 0.5, "green": 1.25};
+    Schema avro = check new (schema);
+    byte[] serializedValue = check avro.toAvro(ratios);
+
+    map<decimal> deserializedValue = check avro.fromAvro(serializedValue);
+    test:assertEquals(deserializedValue, {"red": 0.5d, "green": 1.25d});
+}
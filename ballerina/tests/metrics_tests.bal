@@ -0,0 +1,67 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/observe;
+import ballerina/test;
+
+@test:Config {
+    groups: ["metrics"]
+}
+function testSchemaMetrics() returns error? {
+    string schema = string `
+        {
+            "namespace": "example.metrics",
+            "type": "record",
+            "name": "MetricsProbe",
+            "fields": [
+                {"name": "name", "type": "string"},
+                {"name": "age", "type": "int"}
+            ]
+        }`;
+
+    Schema avro = check new (schema, stringCacheSize = 16, encodedValueCacheSize = 16,
+        decodedValueCacheSize = 1024);
+    Person & readonly person = {name: "Liam", age: 21};
+    byte[] serializedValue = check avro.toAvro(person);
+    serializedValue = check avro.toAvro(person);
+    Person & readonly first = check avro.fromAvro(serializedValue);
+    Person & readonly second = check avro.fromAvro(serializedValue);
+    test:assertEquals(first, second);
+    Person|Error invalid = avro.fromAvro([1, 2, 3]);
+    test:assertTrue(invalid is Error);
+
+    test:assertEquals(check getMetricValue("avro_messages_total", "operation", "toAvro"), 2);
+    test:assertEquals(check getMetricValue("avro_messages_total", "operation", "fromAvro"), 2);
+    test:assertEquals(check getMetricValue("avro_payload_bytes_total", "operation", "toAvro"),
+        serializedValue.length() * 2);
+    test:assertEquals(check getMetricValue("avro_errors_total", "operation", "fromAvro"), 1);
+    test:assertEquals(check getMetricValue("avro_cache_hits_total", "cache", "encodedValue"), 1);
+    test:assertEquals(check getMetricValue("avro_cache_misses_total", "cache", "encodedValue"), 1);
+    test:assertEquals(check getMetricValue("avro_cache_hits_total", "cache", "decodedValue"), 1);
+    test:assertEquals(check getMetricValue("avro_cache_misses_total", "cache", "decodedValue"), 1);
+    test:assertEquals(check getMetricValue("avro_cache_misses_total", "cache", "string"), 1);
+    test:assertEquals(check getMetricValue("avro_cache_hit_ratio", "cache", "encodedValue"), 0.5);
+}
+
+function getMetricValue(string name, string tag, string tagValue) returns int|float|error {
+    foreach observe:Metric metric in observe:getAllMetrics() {
+        map<string> tags = metric.tags;
+        if metric.name == name && tags["schema"] == "example.metrics.MetricsProbe" && tags[tag] == tagValue {
+            return metric.value;
+        }
+    }
+    return error(string `The metric ${name} is not published`);
+}
@@ -198,3 +198,89 @@ public isolated function testByteValue() returns error? {
     data.push(value);
     return verifyOperation(ByteArray, data, schema);
 }
+
+@test:Config {
+    groups: ["primitive", "string", "cache"]
+}
+public isolated function testStringValuesWithStringCache() returns error? {
+    string schema = string `
+        {
+            "type": "string",
+            "name" : "stringValue",
+            "namespace": "data"
+        }`;
+
+    Schema avro = check new (schema, stringCacheSize = 4);
+    string[] parts = from int i in 0 ..< 40 select i.toString();
+    string[] values = ["PENDING", "ශ්‍රී ලංකා 🎉", "PENDING", string:'join("-", ...parts)];
+    foreach string value in values {
+        byte[] serializedValue = check avro.toAvro(value);
+        string deserializedValue = check avro.fromAvro(serializedValue);
+        test:assertEquals(deserializedValue, value);
+    }
+}
+
+@test:Config {
+    groups: ["primitive", "string"]
+}
+public isolated function testEncodingOfMultiByteStrings() returns error? {
+    string schema = string `
+        {
+            "type": "array",
+            "name" : "stringArray",
+            "namespace": "data",
+            "items": "string"
+        }`;
+
+    Schema avro = check new (schema);
+    string longValue = string:'join("", ...from int i in 0 ..< 70000 select "é");
+    string[] values = ["", "test", "ශ්‍රී ලංකා 🎉", "日本語", longValue];
+    foreach string value in values {
+        byte[] bytes = value.toBytes();
+        // The array has a single block with one string, whose length is followed by its UTF-8 bytes.
+        byte[] serializedValue = check avro.toAvro([value]);
+        test:assertEquals(serializedValue.slice(serializedValue.length() - bytes.length - 1), [...bytes, 0]);
+        string[] deserializedValue = check avro.fromAvro(serializedValue);
+        test:assertEquals(deserializedValue, [value]);
+    }
+}
+
+@test:Config {
+    groups: ["primitive", "size"]
+}
+public isolated function testEncodedSizeOfPrimitives() returns error? {
+    Schema longSchema = check new (string `{"type": "long", "name" : "longValue", "namespace": "data"}`);
+    foreach int value in [0, -1, 63, -64, 64, 8191, -8193, int:MAX_VALUE, int:MIN_VALUE] {
+        test:assertEquals(check longSchema.encodedSize(value), (check longSchema.toAvro(value)).length());
+    }
+
+    Schema stringSchema = check new (string `{"type": "string", "name" : "stringValue", "namespace": "data"}`);
+    string[] parts = from int i in 0 ..< 100 select i.toString();
+    foreach string value in ["", "PENDING", "ශ්‍රී ලංකා 🎉", string:'join("-", ...parts)] {
+        test:assertEquals(check stringSchema.encodedSize(value), (check stringSchema.toAvro(value)).length());
+    }
+
+    int|Error size = longSchema.encodedSize("PENDING");
+    test:assertTrue(size is Error);
+}
+
+@test:Config {
+    groups: ["primitive", "string", "size"]
+}
+public isolated function testEncodedSizeEstimate() returns error? {
+    Schema avro = check new (string `{"type": "string", "name" : "stringValue", "namespace": "data"}`);
+    string[] parts = from int i in 0 ..< 1000 select i.toString();
+    string largeValue = string:'join("-", ...parts);
+    int largeSize = check avro.encodedSize(largeValue);
+
+    _ = check avro.toAvro(largeValue);
+    test:assertEquals(avro.getEncodedSizeEstimate(), largeSize);
+
+    foreach int _ in 0 ..< 10 {
+        byte[] serializedValue = check avro.toAvro("PENDING");
+        string deserializedValue = check avro.fromAvro(serializedValue);
+        test:assertEquals(deserializedValue, "PENDING");
+    }
+    int estimate = avro.getEncodedSizeEstimate();
+    test:assertTrue(estimate < largeSize && estimate >= 8);
+}
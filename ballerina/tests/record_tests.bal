@@ -490,3 +490,561 @@ public isolated function testUnionsWithRecords() returns error? {
     DataRecord deserializedValue = check avro.fromAvro(serializedValue);
     test:assertEquals(deserializedValue, value);
 }
+
+@test:Config {
+    groups: ["record", "profile"]
+}
+public isolated function testFieldProfiles() returns error? {
+    string schema = string `
+        {
+            "namespace": "example.avro",
+            "type": "record",
+            "name": "Instructor",
+            "fields": [
+                {"name": "name", "type": ["null", "string"]},
+                {
+                    "name": "student",
+                    "type": ["null", {
+                        "type": "record",
+                        "name": "Student",
+                        "fields": [
+                            {"name": "name", "type": "string"},
+                            {"name": "subject", "type": "string"}
+                        ]
+                    }]
+                }
+            ]
+        }`;
+
+    Instructor instructor = {
+        name: "John",
+        student: {
+            name: "Alice",
+            subject: "Math"
+        }
+    };
+    Schema avro = check new (schema, profileFields = true);
+    byte[] serializedValue = check avro.toAvro(instructor);
+    Instructor deserializedValue = check avro.fromAvro(serializedValue);
+    test:assertEquals(deserializedValue, instructor);
+
+    map<FieldProfile> profiles = map from FieldProfile profile in avro.getFieldProfiles()
+        select [profile.path, profile];
+    test:assertEquals(profiles.keys().sort(), ["name", "student", "student.name", "student.subject"]);
+    map<int> encodedBytes = {"name": 6, "student": 12, "student.name": 6, "student.subject": 5};
+    foreach [string, int] [path, bytes] in encodedBytes.entries() {
+        FieldProfile profile = profiles.get(path);
+        test:assertEquals(profile.encodedBytes, bytes);
+        test:assertEquals(profile.encodeCount, 1);
+        test:assertEquals(profile.decodeCount, 1);
+    }
+
+    avro.resetFieldProfiles();
+    test:assertEquals(avro.getFieldProfiles(), []);
+    Schema unprofiled = check new (schema);
+    _ = check unprofiled.toAvro(instructor);
+    test:assertEquals(unprofiled.getFieldProfiles(), []);
+}
+
+@test:Config {
+    groups: ["record", "union"]
+}
+public isolated function testExtractField() returns error? {
+    string schema = string `
+        {
+            "namespace": "example.avro",
+            "type": "record",
+            "name": "Instructor",
+            "fields": [
+                {"name": "name", "type": ["null", "string"]},
+                {
+                    "name": "student",
+                    "type": ["null", {
+                        "type": "record",
+                        "name": "Student",
+                        "fields": [
+                            {"name": "name", "type": "string"},
+                            {"name": "subject", "type": "string"}
+                        ]
+                    }]
+                }
+            ]
+        }`;
+
+    Instructor instructor = {
+        name: "John",
+        student: {
+            name: "Alice",
+            subject: "Math"
+        }
+    };
+    Schema avro = check new (schema);
+    byte[] serializedValue = check avro.toAvro(instructor);
+    string? name = check avro.extract(serializedValue, "name");
+    test:assertEquals(name, "John");
+    string subject = check avro.extract(serializedValue, "student.subject");
+    test:assertEquals(subject, "Math");
+    Student student = check avro.extract(serializedValue, "student");
+    test:assertEquals(student, instructor.student);
+
+    serializedValue = check avro.toAvro({name: (), student: ()});
+    string? missingSubject = check avro.extract(serializedValue, "student.subject");
+    test:assertEquals(missingSubject, ());
+    string|Error nilSubject = avro.extract(serializedValue, "student.subject");
+    test:assertTrue(nilSubject is Error);
+    string|Error undefinedField = avro.extract(serializedValue, "student.age");
+    test:assertTrue(undefinedField is Error);
+}
+
+@test:Config {
+    groups: ["record"]
+}
+public isolated function testCompareAndSort() returns error? {
+    string schema = string `
+        {
+            "namespace": "example.avro",
+            "type": "record",
+            "name": "Grade",
+            "fields": [
+                {"name": "subject", "type": "string"},
+                {"name": "score", "type": "int", "order": "descending"},
+                {"name": "note", "type": "string", "order": "ignore"}
+            ]
+        }`;
+
+    Schema avro = check new (schema);
+    byte[] mathLow = check avro.toAvro(<Grade>{subject: "math", score: 40, note: "a"});
+    byte[] mathHigh = check avro.toAvro(<Grade>{subject: "math", score: 90, note: "b"});
+    byte[] mathHighOther = check avro.toAvro(<Grade>{subject: "math", score: 90, note: "c"});
+    byte[] art = check avro.toAvro(<Grade>{subject: "art", score: 10, note: "d"});
+
+    test:assertTrue(check avro.compare(art, mathLow) < 0);
+    test:assertTrue(check avro.compare(mathHigh, mathLow) < 0);
+    test:assertEquals(check avro.compare(mathHigh, mathHighOther), 0);
+
+    byte[][] sorted = check avro.sort([mathLow, mathHighOther, art, mathHigh]);
+    test:assertEquals(sorted, [art, mathHighOther, mathHigh, mathLow]);
+}
+
+@test:Config {
+    groups: ["record"]
+}
+public isolated function testExternalSort() returns error? {
+    string schema = string `
+        {
+            "namespace": "example.avro",
+            "type": "record",
+            "name": "Grade",
+            "fields": [
+                {"name": "subject", "type": "string"},
+                {"name": "score", "type": "int", "order": "descending"},
+                {"name": "note", "type": "string", "order": "ignore"}
+            ]
+        }`;
+
+    Schema avro = check new (schema);
+    byte[][] messages = [];
+    foreach int i in 0 ..< 40 {
+        Grade grade = {subject: i % 2 == 0 ? "math" : "art", score: i % 5, note: string `note-${i}`};
+        messages.push(check avro.toAvro(grade));
+    }
+    // A small run size spills the messages to several runs.
+    Sorter sorter = new (avro, runSize = 64);
+    foreach byte[] message in messages {
+        check sorter.add(message);
+    }
+    test:assertTrue(sorter.add([1, 2, 3]) is Error);
+    string path = "target/grades-sorted.avro";
+    check sorter.sort(path);
+    check sorter.close();
+
+    // The output container file is not compressed, so the messages appear in it as they are.
+    byte[] output = check io:fileReadBytes(path);
+    int position = 0;
+    foreach byte[] message in check avro.sort(messages) {
+        int? index = indexOf(output, message, position);
+        if index is () {
+            test:assertFail("The message is not in sorted order in the output");
+        }
+        position = index + message.length();
+    }
+}
+
+isolated function indexOf(byte[] data, byte[] part, int startIndex) returns int? {
+    foreach int i in startIndex ... data.length() - part.length() {
+        if data.slice(i, i + part.length()) == part {
+            return i;
+        }
+    }
+    return ();
+}
+
+@test:Config {
+    groups: ["record"]
+}
+public isolated function testEncodedValueCache() returns error? {
+    string schema = string `
+        {
+            "namespace": "example.avro",
+            "type": "record",
+            "name": "Student",
+            "fields": [
+                {"name": "name", "type": "string"},
+                {"name": "subject", "type": "string"}
+            ]
+        }`;
+
+    Schema avro = check new (schema, encodedValueCacheSize = 16);
+    Student & readonly student = {name: "Liam", subject: "geology"};
+    byte[] serializedValue = check avro.toAvro(student);
+    serializedValue[0] = 0;
+    // The cached encoding is not affected by changes to a returned array.
+    byte[] cachedValue = check avro.toAvro(student);
+    test:assertEquals(cachedValue, check avro.toAvro(student.cloneReadOnly()));
+    Student deserializedValue = check avro.fromAvro(cachedValue);
+    test:assertEquals(deserializedValue, student);
+
+    Student mutableStudent = {name: "Liam", subject: "geology"};
+    test:assertEquals(check avro.toAvro(mutableStudent), cachedValue);
+    mutableStudent.subject = "physics";
+    Student changedValue = check avro.fromAvro(check avro.toAvro(mutableStudent));
+    test:assertEquals(changedValue, mutableStudent);
+}
+
+@test:Config {
+    groups: ["record"]
+}
+public isolated function testDecodedValueCache() returns error? {
+    string schema = string `
+        {
+            "namespace": "example.avro",
+            "type": "record",
+            "name": "Student",
+            "fields": [
+                {"name": "name", "type": "string"},
+                {"name": "subject", "type": "string"}
+            ]
+        }`;
+
+    Schema avro = check new (schema, decodedValueCacheSize = 1024);
+    byte[] serializedValue = check avro.toAvro(<Student>{name: "Liam", subject: "geology"});
+    Student & readonly first = check avro.fromAvro(serializedValue);
+    Student & readonly second = check avro.fromAvro(serializedValue.clone());
+    test:assertTrue(first === second);
+    Student mutableValue = check avro.fromAvro(serializedValue);
+    test:assertFalse(mutableValue === first);
+    mutableValue.subject = "physics";
+    test:assertEquals(first.subject, "geology");
+
+    DecodedValueCacheStats? stats = avro.getDecodedValueCacheStats();
+    if stats is () {
+        test:assertFail("The decoded value cache is not enabled");
+    }
+    test:assertEquals([stats.hits, stats.misses, stats.entries], [1, 1, 1]);
+    // The weight of an entry includes the estimated size of the decoded value.
+    test:assertTrue(stats.bytes > serializedValue.length());
+    test:assertEquals((check new Schema(schema)).getDecodedValueCacheStats(), ());
+}
+
+@test:Config {
+    groups: ["array", "int"]
+}
+public isolated function testDecodedValueCacheWeighsDecodedValues() returns error? {
+    string schema = string `{"type": "array", "items": "long"}`;
+
+    int[] values = [];
+    foreach int i in 0 ..< 100 {
+        values.push(i % 10);
+    }
+    Schema avro = check new (schema, decodedValueCacheSize = 512);
+    byte[] serializedValue = check avro.toAvro(values);
+    test:assertTrue(serializedValue.length() < 512);
+    int[] & readonly first = check avro.fromAvro(serializedValue);
+    int[] & readonly second = check avro.fromAvro(serializedValue);
+    test:assertEquals(first, values);
+    // The payload fits in the cache, but the decoded array does not.
+    test:assertFalse(first === second);
+    test:assertEquals(avro.getDecodedValueCacheStats(), {hits: 0, misses: 2, entries: 0, bytes: 0});
+}
+
+@test:Config {
+    groups: ["record", "array"]
+}
+public isolated function testFromAvroInto() returns error? {
+    string schema = string `
+        {
+            "namespace": "example.avro",
+            "type": "record",
+            "name": "Classroom",
+            "fields": [
+                {"name": "name", "type": "string"},
+                {
+                    "name": "teacher",
+                    "type": {
+                        "type": "record",
+                        "name": "Person",
+                        "fields": [
+                            {"name": "name", "type": "string"},
+                            {"name": "age", "type": "int"}
+                        ]
+                    }
+                },
+                {"name": "students", "type": {"type": "array", "items": "Person"}},
+                {"name": "scores", "type": {"type": "array", "items": "int"}}
+            ]
+        }`;
+
+    Classroom classroom = {
+        name: "Physics",
+        teacher: {name: "John", age: 45},
+        students: [{name: "Alice", age: 17}, {name: "Bob", age: 18}],
+        scores: [90, 85]
+    };
+    Schema avro = check new (schema);
+    byte[] serializedValue = check avro.toAvro(classroom);
+
+    Person teacher = {name: "", age: 0};
+    Person student = {name: "", age: 0};
+    Person[] students = [student, {name: "", age: 0}, {name: "", age: 0}];
+    int[] scores = [];
+    Classroom target = {name: "", teacher, students, scores};
+    check avro.fromAvroInto(serializedValue, target);
+    test:assertEquals(target, classroom);
+    test:assertTrue(target.teacher === teacher);
+    test:assertTrue(target.students === students);
+    test:assertTrue(target.students[0] === student);
+    test:assertTrue(target.scores === scores);
+    test:assertEquals(students.length(), 2);
+    test:assertEquals(scores, [90, 85]);
+
+    Classroom & readonly immutable = check avro.fromAvro(serializedValue);
+    Error? result = avro.fromAvroInto(serializedValue, immutable);
+    test:assertTrue(result is Error);
+}
+
+@test:Config {
+    groups: ["record", "array"]
+}
+public isolated function testReadOnlyRecordsWithNestedValues() returns error? {
+    string schema = string `
+        {
+            "namespace": "example.avro",
+            "type": "record",
+            "name": "Classroom",
+            "fields": [
+                {"name": "name", "type": "string"},
+                {
+                    "name": "teacher",
+                    "type": {
+                        "type": "record",
+                        "name": "Person",
+                        "fields": [
+                            {"name": "name", "type": "string"},
+                            {"name": "age", "type": "int"}
+                        ]
+                    }
+                },
+                {"name": "students", "type": {"type": "array", "items": "Person"}},
+                {"name": "scores", "type": {"type": "array", "items": "int"}}
+            ]
+        }`;
+
+    Classroom classroom = {
+        name: "Physics",
+        teacher: {name: "John", age: 45},
+        students: [{name: "Alice", age: 17}],
+        scores: [90]
+    };
+    Schema avro = check new (schema);
+    byte[] serializedValue = check avro.toAvro(classroom);
+
+    Classroom & readonly deserializedValue = check avro.fromAvro(serializedValue);
+    test:assertEquals(deserializedValue, classroom);
+    test:assertTrue(deserializedValue.teacher is readonly);
+    test:assertTrue(deserializedValue.students is readonly);
+    test:assertTrue(deserializedValue.students[0] is readonly);
+    test:assertTrue(deserializedValue.scores is readonly);
+
+    Classroom mutableValue = check avro.fromAvro(serializedValue);
+    mutableValue.scores.push(85);
+    test:assertEquals(mutableValue.scores, [90, 85]);
+}
+
+@test:Config {
+    groups: ["record", "map", "array", "union"]
+}
+public isolated function testFromAvroIntoMapsAndOptionalRecords() returns error? {
+    string schema = string `
+        {
+            "namespace": "example.avro",
+            "type": "record",
+            "name": "Inventory",
+            "fields": [
+                {"name": "stock", "type": {"type": "map", "values": "int"}},
+                {
+                    "name": "owner",
+                    "type": [
+                        "null",
+                        {
+                            "type": "record",
+                            "name": "Person",
+                            "fields": [
+                                {"name": "name", "type": "string"},
+                                {"name": "age", "type": "int"}
+                            ]
+                        }
+                    ]
+                },
+                {"name": "tags", "type": {"type": "array", "items": "string"}}
+            ]
+        }`;
+
+    Inventory inventory = {stock: {"apples": 5, "pears": 2}, owner: {name: "John", age: 45}, tags: ["fruit"]};
+    Schema avro = check new (schema);
+    byte[] serializedValue = check avro.toAvro(inventory);
+
+    map<int> stock = {"apples": 1, "plums": 9};
+    Person owner = {name: "", age: 0};
+    string[] tags = ["a", "b", "c"];
+    Inventory target = {stock, owner, tags};
+    check avro.fromAvroInto(serializedValue, target);
+    test:assertEquals(target, inventory);
+    test:assertTrue(target.stock === stock);
+    test:assertTrue(target.owner === owner);
+    test:assertTrue(target.tags === tags);
+    test:assertEquals(stock, {"apples": 5, "pears": 2});
+    test:assertEquals(tags, ["fruit"]);
+
+    Inventory empty = {stock: {}, owner: (), tags: []};
+    serializedValue = check avro.toAvro(empty);
+    check avro.fromAvroInto(serializedValue, target);
+    test:assertEquals(target, empty);
+    test:assertTrue(target.stock === stock);
+    test:assertTrue(target.tags === tags);
+}
+
+@test:Config {
+    groups: ["record", "enum"]
+}
+public isolated function testFromAvroIntoEnums() returns error? {
+    string schema = string `
+        {
+            "namespace": "example.avro",
+            "type": "record",
+            "name": "Ticket",
+            "fields": [
+                {"name": "id", "type": "string"},
+                {"name": "level", "type": {"type": "enum", "name": "Level", "symbols": ["LOW", "HIGH"]}},
+                {"name": "priority", "type": {"type": "enum", "name": "Numbers", "symbols": ["ONE", "TWO", "THREE"]}}
+            ]
+        }`;
+
+    Ticket ticket = {id: "T-1", level: "HIGH", priority: TWO};
+    Schema avro = check new (schema);
+    byte[] serializedValue = check avro.toAvro(ticket);
+
+    Ticket target = {id: "", level: "LOW", priority: ONE};
+    check avro.fromAvroInto(serializedValue, target);
+    test:assertEquals(target, ticket);
+    test:assertEquals(target.priority, TWO);
+}
+
+@test:Config {
+    groups: ["record", "map", "array", "union"]
+}
+public isolated function testCompiledSerializer() returns error? {
+    string schema = string `
+        {
+            "namespace": "example.avro",
+            "type": "record",
+            "name": "Course",
+            "fields": [
+                {"name": "name", "type": "string"},
+                {"name": "credits", "type": ["null", "int"]},
+                {"name": "level", "type": {"type": "enum", "name": "Level", "symbols": ["BASIC", "ADVANCED"]}},
+                {"name": "scores", "type": {"type": "map", "values": "long"}},
+                {"name": "tags", "type": {"type": "array", "items": "string"}},
+                {"name": "syllabus", "type": "bytes"},
+                {
+                    "name": "students",
+                    "type": {
+                        "type": "array",
+                        "items": {
+                            "type": "record",
+                            "name": "Person",
+                            "fields": [
+                                {"name": "name", "type": "string"},
+                                {"name": "age", "type": "int"}
+                            ]
+                        }
+                    }
+                }
+            ]
+        }`;
+
+    record {} course = {
+        name: "Physics",
+        credits: 3,
+        level: "ADVANCED",
+        scores: {"alice": 90, "bob": 85, "carol": 77},
+        tags: ["science", "lab"],
+        syllabus: "mechanics".toBytes(),
+        students: [{name: "Alice", age: 17}, {name: "Bob", age: 18}]
+    };
+    Schema compiled = check new (schema, compileSerializer = true);
+    Schema avro = check new (schema);
+    byte[] serializedValue = check compiled.toAvro(course);
+    test:assertEquals(serializedValue, check avro.toAvro(course));
+    record {} deserializedValue = check avro.fromAvro(serializedValue);
+    test:assertEquals(deserializedValue, course);
+
+    course["credits"] = ();
+    test:assertEquals(check compiled.toAvro(course), check avro.toAvro(course));
+
+    course["level"] = "EXPERT";
+    test:assertTrue(compiled.toAvro(course) is Error);
+}
+
+@test:Config {
+    groups: ["record", "array"]
+}
+public isolated function testWarmup() returns error? {
+    string schema = string `
+        {
+            "namespace": "example.avro",
+            "type": "record",
+            "name": "Classroom",
+            "fields": [
+                {"name": "name", "type": "string"},
+                {
+                    "name": "teacher",
+                    "type": {
+                        "type": "record",
+                        "name": "Person",
+                        "fields": [
+                            {"name": "name", "type": "string"},
+                            {"name": "age", "type": "int"}
+                        ]
+                    }
+                },
+                {"name": "students", "type": {"type": "array", "items": "Person"}},
+                {"name": "scores", "type": {"type": "array", "items": "int"}}
+            ]
+        }`;
+
+    Schema avro = check new (schema, compileSerializer = true);
+    int estimate = avro.getEncodedSizeEstimate();
+    check avro.warmup(Classroom, Classroom & readonly);
+    test:assertEquals(avro.getEncodedSizeEstimate(), estimate);
+
+    Classroom classroom = {
+        name: "Physics",
+        teacher: {name: "John", age: 45},
+        students: [{name: "Alice", age: 17}],
+        scores: [90]
+    };
+    Classroom deserializedValue = check avro.fromAvro(check avro.toAvro(classroom));
+    test:assertEquals(deserializedValue, classroom);
+
+    test:assertTrue(avro.warmup(int) is Error);
+}
@@ -0,0 +1,195 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+import ballerina/test;
+
+final string studentSchema = string `
+    {
+        "namespace": "example.avro",
+        "type": "record",
+        "name": "Student",
+        "fields": [
+            {"name": "name", "type": "string"},
+            {"name": "subject", "type": "string"}
+        ]
+    }`;
+
+final Student[] & readonly students = [
+    {name: "Liam", subject: "geology"},
+    {name: "Emma", subject: "physics"},
+    {name: "Noah", subject: "literature"}
+];
+
+@test:Config {
+    groups: ["stream"]
+}
+public isolated function testWriterAndReader() returns error? {
+    Schema avro = check new (studentSchema);
+    Writer writer = new (avro);
+    foreach Student student in students {
+        check writer.write(student);
+    }
+    byte[] payload = check writer.getBytes();
+    test:assertEquals(payload, [...check avro.toAvro(students[0]), ...check avro.toAvro(students[1]),
+        ...check avro.toAvro(students[2])]);
+
+    Reader reader = new (avro, payload);
+    Student[] values = [];
+    while check reader.hasNext() {
+        Student value = check reader.next();
+        values.push(value);
+    }
+    test:assertEquals(values, students);
+}
+
+@test:Config {
+    groups: ["stream"]
+}
+public isolated function testWriterSkipsFailedValues() returns error? {
+    Schema avro = check new (studentSchema);
+    Writer writer = new (avro);
+    check writer.write(students[0]);
+    Error? result = writer.write({name: "Olivia", subject: 5});
+    test:assertTrue(result is Error);
+    check writer.write(students[1]);
+    test:assertEquals(check writer.getBytes(), [...check avro.toAvro(students[0]), ...check avro.toAvro(students[1])]);
+
+    check writer.reset();
+    test:assertEquals(check writer.getBytes(), []);
+}
+
+@test:Config {
+    groups: ["stream"]
+}
+public isolated function testReaderWithTruncatedInput() returns error? {
+    Schema avro = check new (studentSchema);
+    byte[] payload = check avro.toAvro(students[0]);
+    Reader reader = new (avro, payload.slice(0, payload.length() - 2));
+    boolean|Error hasNext = reader.hasNext();
+    test:assertTrue(hasNext is Error);
+}
+
+@test:Config {
+    groups: ["stream"]
+}
+public isolated function testWriterAndReaderWithChannels() returns error? {
+    string path = "target/students.avro";
+    Schema avro = check new (studentSchema);
+    Writer writer = new (avro, check io:openWritableFile(path), bufferSize = 16);
+    foreach int _ in 0 ..< 100 {
+        foreach Student student in students {
+            check writer.write(student);
+        }
+    }
+    check writer.close();
+
+    // A small buffer makes the values span several reads from the channel.
+    Reader reader = new (avro, check io:openReadableFile(path), bufferSize = 7);
+    int count = 0;
+    while check reader.hasNext() {
+        Student value = check reader.next();
+        test:assertEquals(value, students[count % students.length()]);
+        count += 1;
+    }
+    check reader.close();
+    test:assertEquals(count, 300);
+}
+
+@test:Config {
+    groups: ["stream"]
+}
+public isolated function testSegments() returns error? {
+    string schema = string `
+        {
+            "type": "array",
+            "name" : "stringArray",
+            "namespace": "data",
+            "items": "string"
+        }`;
+
+    string[] values = from int i in 0 ..< 50 select string `value-${i}`;
+    Schema avro = check new (schema);
+    byte[] serializedValue = check avro.toAvro(values);
+    byte[][] segments = check avro.toAvroSegments(values, 64);
+    test:assertEquals(segments.length(), (serializedValue.length() + 63) / 64);
+    byte[] concatenated = [];
+    foreach byte[] segment in segments {
+        test:assertTrue(segment.length() <= 64);
+        concatenated.push(...segment);
+    }
+    test:assertEquals(concatenated, serializedValue);
+
+    string[] deserializedValue = check avro.fromAvroSegments(segments);
+    test:assertEquals(deserializedValue, values);
+    test:assertTrue(avro.toAvroSegments(values, 0) is Error);
+}
+
+@test:Config {
+    groups: ["stream"]
+}
+public isolated function testReaderWithBlockedValuesAcrossChunks() returns error? {
+    string schema = string `
+        {
+            "namespace": "example.avro",
+            "type": "record",
+            "name": "Shipment",
+            "fields": [
+                {"name": "id", "type": "string"},
+                {"name": "quantities", "type": {"type": "array", "items": "int"}},
+                {"name": "labels", "type": {"type": "map", "values": "string"}},
+                {"name": "students", "type": {"type": "array", "items": {
+                    "type": "record",
+                    "name": "Student",
+                    "fields": [
+                        {"name": "name", "type": "string"},
+                        {"name": "subject", "type": "string"}
+                    ]
+                }}},
+                {"name": "receiver", "type": ["null", "Student", "string"]}
+            ]
+        }`;
+    (Student|string?)[] receivers = [(), students[0], "warehouse"];
+    Shipment[] shipments = from int i in 0 ..< 30
+        select {
+            id: string `shipment-${i}`,
+            quantities: from int j in 0 ..< i select j * 100,
+            labels: map from int j in 0 ..< i % 7 select [string `key-${j}`, string `label-${j}`],
+            students: from int j in 0 ..< i % 5 select students[j % students.length()],
+            receiver: receivers[i % receivers.length()]
+        };
+
+    string path = "target/shipments.avro";
+    Schema avro = check new (schema);
+    // The blocks are smaller than the arrays and maps, which are written with negative item counts and byte sizes.
+    Writer writer = new (avro, check io:openWritableFile(path), bufferSize = 32, blockSize = 16);
+    foreach Shipment shipment in shipments {
+        check writer.write(shipment);
+    }
+    check writer.close();
+
+    // The chunks are smaller than the blocks, so the headers, items and union indexes straddle the chunk boundaries.
+    foreach int bufferSize in [1, 3, 5] {
+        Reader reader = new (avro, check io:openReadableFile(path), bufferSize = bufferSize);
+        Shipment[] values = [];
+        while check reader.hasNext() {
+            Shipment value = check reader.next();
+            values.push(value);
+        }
+        check reader.close();
+        test:assertEquals(values, shipments);
+    }
+}
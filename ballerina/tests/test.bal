@@ -21,6 +21,7 @@ public isolated function verifyOperation(typedesc<anydata> providedType,
                                          anydata value, string schema) returns error? {
     Schema avro = check new (schema);
     byte[] serializedValue = check avro.toAvro(value);
+    test:assertEquals(check avro.encodedSize(value), serializedValue.length());
     var deserializedValue = check avro.fromAvro(serializedValue, providedType);
     test:assertEquals(deserializedValue, value);
 }
@@ -126,6 +127,23 @@ public isolated function testEnumsWithReadOnlyValues() returns error? {
     return verifyOperation(Numbers, number, schema);
 }
 
+@test:Config {
+    groups: ["enum"]
+}
+public isolated function testEnumsWithInvalidSymbol() returns error? {
+    string schema = string `
+        {
+            "type" : "enum",
+            "name" : "Numbers", 
+            "namespace": "data", 
+            "symbols" : [ "ONE", "TWO", "THREE", "FOUR" ]
+        }`;
+
+    Schema avro = check new (schema);
+    byte[]|Error serializedValue = avro.toAvro("FIVE");
+    test:assertTrue(serializedValue is Error);
+}
+
 @test:Config {
     groups: ["errors", "enum"]
 }
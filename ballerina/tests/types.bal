@@ -49,6 +49,33 @@ public type Instructor record {
     Student? & readonly student;
 };
 
+public type Classroom record {
+    string name;
+    Person teacher;
+    Person[] students;
+    int[] scores;
+};
+
+public type Inventory record {
+    map<int> stock;
+    Person? owner;
+    string[] tags;
+};
+
+public type Ticket record {
+    string id;
+    string level;
+    Numbers priority;
+};
+
+public type Shipment record {
+    string id;
+    int[] quantities;
+    map<string> labels;
+    Student[] students;
+    Student|string? receiver;
+};
+
 public type Lecturer record {
     string? name;
     Instructor instructor;
@@ -364,3 +391,9 @@ type EnumArray Numbers[];
 type Enum2DArray Numbers[][];
 type ReadOnlyString2DArray string[][] & readonly;
 type DataRecord record{};
+
+public type Grade record {
+    string subject;
+    int score;
+    string note;
+};
@@ -0,0 +1,136 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+import ballerina/jballerina.java;
+
+# Writes a sequence of values encoded back-to-back with the same Avro schema, without any framing between them.
+# The values are encoded into segments of `bufferSize` bytes, which are written to the channel once a segment is full.
+public isolated class Writer {
+
+    private final io:WritableByteChannel? channel;
+    private final int bufferSize;
+
+    # Initializes the writer.
+    #
+    # ```ballerina
+    # avro:Writer writer = new (schema, check io:openWritableFile("./orders.avro"));
+    # ```
+    #
+    # + schema - The Avro schema of the values
+    # + channel - The channel to write the encoded values to. If not provided, the values are kept in memory
+    #             and returned by `getBytes`
+    # + config - The configurations of the writer
+    public isolated function init(Schema schema, io:WritableByteChannel? channel = (), *WriterConfig config) {
+        self.channel = channel;
+        self.bufferSize = config.bufferSize;
+        self.initWriter(schema, config);
+    }
+
+    isolated function initWriter(Schema schema, WriterConfig config) = @java:Method {
+        'class: "io.ballerina.lib.avro.Writer"
+    } external;
+
+    # Encodes the given value and appends it to the buffer. The buffer is written to the channel when it holds
+    # `bufferSize` bytes. A value which fails to encode is not written at all.
+    #
+    # ```ballerina
+    # check writer.write(value);
+    # ```
+    #
+    # + data - The value to be encoded
+    # + return - An `avro:Error` if the value could not be encoded or written, otherwise nil
+    public isolated function write(anydata data) returns Error? {
+        int pendingSize = check self.writeValue(data);
+        if self.channel !is () && pendingSize >= self.bufferSize {
+            check self.flush();
+        }
+    }
+
+    isolated function writeValue(anydata data) returns int|Error = @java:Method {
+        'class: "io.ballerina.lib.avro.Writer"
+    } external;
+
+    # Writes the buffered values to the channel. Does nothing if the writer has no channel.
+    #
+    # ```ballerina
+    # check writer.flush();
+    # ```
+    #
+    # + return - An `avro:Error` if the values could not be written, otherwise nil
+    public isolated function flush() returns Error? {
+        io:WritableByteChannel? channel = self.channel;
+        if channel is () {
+            return;
+        }
+        lock {
+            foreach byte[] segment in check self.drain() {
+                int offset = 0;
+                while offset < segment.length() {
+                    int|io:Error written = channel.write(segment, offset);
+                    if written is io:Error {
+                        return error Error("Failed to write the encoded values to the channel", written);
+                    }
+                    offset += written;
+                }
+            }
+        }
+    }
+
+    isolated function drain() returns byte[][]|Error = @java:Method {
+        'class: "io.ballerina.lib.avro.Writer"
+    } external;
+
+    # Returns the values buffered since the last flush or reset, without clearing them.
+    #
+    # ```ballerina
+    # byte[] payload = check writer.getBytes();
+    # ```
+    #
+    # + return - The encoded values or else an `avro:Error`
+    public isolated function getBytes() returns byte[]|Error = @java:Method {
+        'class: "io.ballerina.lib.avro.Writer"
+    } external;
+
+    # Discards the values buffered since the last flush or reset.
+    #
+    # ```ballerina
+    # check writer.reset();
+    # ```
+    #
+    # + return - An `avro:Error` if the buffer could not be cleared, otherwise nil
+    public isolated function reset() returns Error? = @java:Method {
+        'class: "io.ballerina.lib.avro.Writer"
+    } external;
+
+    # Writes the buffered values to the channel and closes it.
+    #
+    # ```ballerina
+    # check writer.close();
+    # ```
+    #
+    # + return - An `avro:Error` if the values could not be written or the channel could not be closed
+    public isolated function close() returns Error? {
+        check self.flush();
+        io:WritableByteChannel? channel = self.channel;
+        if channel !is () {
+            io:Error? result = channel.close();
+            if result is io:Error {
+                return error Error("Failed to close the channel", result);
+            }
+        }
+    }
+}
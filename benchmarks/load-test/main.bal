@@ -0,0 +1,190 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/avro;
+import ballerina/io;
+import ballerina/jballerina.java;
+import load_test.generator;
+
+# The numbers of concurrent workers sharing the schema
+configurable int[] concurrencyLevels = [1, 2, 4, 8];
+# The numbers of order lines in a message, which control the payload size
+configurable int[] orderLines = [1, 10, 100];
+# The number of distinct orders generated for each payload size
+configurable int datasetSize = 1000;
+# The number of round trips each worker performs in a run
+configurable int messagesPerWorker = 10000;
+# The number of round trips performed before each run to warm up the JVM
+configurable int warmupMessages = 5000;
+
+enum Codec {
+    AVRO = "avro",
+    JSON = "json"
+}
+
+type Order record {
+    string orderId;
+    string customerId;
+    string status;
+    map<string> attributes;
+    OrderLine[] lines;
+};
+
+type OrderLine record {
+    string productId;
+    int quantity;
+    float price;
+};
+
+final string orderSchemaDefinition = string `{
+    "type": "record",
+    "name": "Order",
+    "fields": [
+        {"name": "orderId", "type": "string"},
+        {"name": "customerId", "type": "string"},
+        {"name": "status", "type": "string"},
+        {"name": "attributes", "type": {"type": "map", "values": "string"}},
+        {
+            "name": "lines",
+            "type": {
+                "type": "array",
+                "items": {
+                    "type": "record",
+                    "name": "OrderLine",
+                    "fields": [
+                        {"name": "productId", "type": "string"},
+                        {"name": "quantity", "type": "int"},
+                        {"name": "price", "type": "double"}
+                    ]
+                }
+            }
+        }
+    ]
+}`;
+
+final avro:Schema orderSchema = check new (orderSchemaDefinition);
+
+public function main() returns error? {
+    io:println("codec,payloadBytes,concurrency,msgsPerSec,p50Micros,p99Micros,heapBytesPerMsg");
+    foreach int lineCount in orderLines {
+        Dataset dataset = check createDataset(lineCount);
+        foreach Codec codec in [AVRO, JSON] {
+            int payloadBytes = check averageSize(codec, dataset);
+            foreach int concurrency in concurrencyLevels {
+                Result result = check run(codec, dataset, concurrency);
+                io:println(string `${codec},${payloadBytes},${concurrency},${result.throughput},`,
+                        string `${result.p50Micros},${result.p99Micros},${result.heapBytesPerMessage}`);
+            }
+        }
+    }
+}
+
+type Result record {|
+    int throughput;
+    float p50Micros;
+    float p99Micros;
+    int heapBytesPerMessage;
+|};
+
+type Dataset readonly & Order[];
+
+function run(Codec codec, Dataset dataset, int concurrency) returns Result|error {
+    _ = check runWorker(codec, dataset, warmupMessages);
+
+    int allocatedBefore = allocatedBytes();
+    int startTime = nanoTime();
+    future<int[]|error>[] workers = [];
+    foreach int _ in 0 ..< concurrency {
+        workers.push(start runWorker(codec, dataset, messagesPerWorker));
+    }
+    int[] latencies = [];
+    foreach future<int[]|error> worker in workers {
+        int[] workerLatencies = check wait worker;
+        latencies.push(...workerLatencies);
+    }
+    int elapsed = nanoTime() - startTime;
+    int allocated = allocatedBytes() - allocatedBefore;
+
+    int messages = latencies.length();
+    int[] sorted = latencies.sort();
+    return {
+        throughput: messages * 1000000000 / elapsed,
+        p50Micros: toMicros(percentile(sorted, 50)),
+        p99Micros: toMicros(percentile(sorted, 99)),
+        heapBytesPerMessage: allocated / messages
+    };
+}
+
+isolated function runWorker(Codec codec, Dataset dataset, int messages) returns int[]|error {
+    int[] latencies = [];
+    foreach int i in 0 ..< messages {
+        Order message = dataset[i % dataset.length()];
+        int startTime = nanoTime();
+        check roundTrip(codec, message);
+        latencies.push(nanoTime() - startTime);
+    }
+    return latencies;
+}
+
+isolated function roundTrip(Codec codec, Order message) returns error? {
+    if codec == AVRO {
+        byte[] payload = check orderSchema.toAvro(message);
+        Order _ = check orderSchema.fromAvro(payload);
+    } else {
+        string payload = message.toJsonString();
+        Order _ = check payload.fromJsonStringWithType();
+    }
+}
+
+isolated function averageSize(Codec codec, Dataset dataset) returns int|error {
+    int total = 0;
+    foreach Order message in dataset {
+        total += codec == AVRO ? (check orderSchema.toAvro(message)).length()
+            : message.toJsonString().toBytes().length();
+    }
+    return total / dataset.length();
+}
+
+function createDataset(int lineCount) returns Dataset|error {
+    generator:Generator orderGenerator = check new (orderSchemaDefinition, minStringLength = 4, maxStringLength = 24,
+        minCollectionSize = lineCount, maxCollectionSize = lineCount);
+    Order[] orders = [];
+    foreach generator:Sample sample in check orderGenerator.generate(datasetSize) {
+        orders.push(check sample.value.cloneWithType());
+    }
+    return orders.cloneReadOnly();
+}
+
+isolated function percentile(int[] sorted, int percent) returns int {
+    int index = (sorted.length() * percent + 99) / 100 - 1;
+    return sorted[index < 0 ? 0 : index];
+}
+
+isolated function toMicros(int nanos) returns float => (<float>nanos / 1000.0).round(1);
+
+isolated function allocatedBytes() returns int => getTotalThreadAllocatedBytes(getThreadMXBean());
+
+isolated function nanoTime() returns int = @java:Method {
+    'class: "java.lang.System"
+} external;
+
+isolated function getThreadMXBean() returns handle = @java:Method {
+    'class: "java.lang.management.ManagementFactory"
+} external;
+
+isolated function getTotalThreadAllocatedBytes(handle threadMXBean) returns int = @java:Method {
+    'class: "com.sun.management.ThreadMXBean"
+} external;
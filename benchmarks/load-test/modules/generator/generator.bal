@@ -0,0 +1,394 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/avro;
+
+const ALPHABET = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+const DEFAULT_SEED = 0x2545F4914F6CDD1D;
+const NULL_SCHEMA = "null";
+const MAX_NESTING_BEYOND_DEPTH = 64;
+
+# Represents the configurations of the generated values.
+#
+# + seed - The seed of the random values. Generators with the same schema, configurations and seed produce the same
+#          values
+# + minStringLength - The minimum length of the `string` and `bytes` values and map keys
+# + maxStringLength - The maximum length of the `string` and `bytes` values and map keys
+# + minCollectionSize - The minimum number of members of the arrays and maps
+# + maxCollectionSize - The maximum number of members of the arrays and maps
+# + nullRatio - The probability of choosing the `null` branch of a nullable union
+# + unionBranchWeights - The relative weights of the non-null union branches, keyed by the Avro type name or the
+#                        name of the named type. Branches which are not listed have the weight `1.0`
+# + maxDepth - The nesting depth of records, arrays and maps beyond which nullable unions are always `null` and
+#              arrays and maps are always empty, which keeps the values of recursive schemas finite
+public type Config record {|
+    int seed = DEFAULT_SEED;
+    int minStringLength = 1;
+    int maxStringLength = 16;
+    int minCollectionSize = 0;
+    int maxCollectionSize = 8;
+    float nullRatio = 0.2;
+    map<float> unionBranchWeights = {};
+    int maxDepth = 8;
+|};
+
+# Represents a generated value together with its Avro encoded form.
+#
+# + value - The generated value
+# + payload - The value serialized with the schema
+public type Sample record {|
+    anydata value;
+    byte[] payload;
+|};
+
+# Generates random values which are valid for an Avro schema.
+public class Generator {
+
+    private final avro:Schema avroSchema;
+    private final json schema;
+    private final Config config;
+    private final map<json> namedTypes = {};
+    private int state;
+
+    # Initializes the generator with the given schema definition.
+    #
+    # ```ballerina
+    # generator:Generator generator = check new (schema, maxCollectionSize = 100, nullRatio = 0.5);
+    # ```
+    #
+    # + schema - The Avro schema definition as a string
+    # + config - The configurations of the generated values
+    # + return - An `error` if the schema is not valid, otherwise nil
+    public function init(string schema, *Config config) returns error? {
+        self.avroSchema = check new (schema);
+        self.schema = check schema.fromJsonString();
+        self.config = config.cloneReadOnly();
+        self.state = config.seed == 0 ? DEFAULT_SEED : config.seed;
+        check self.registerNamedTypes(self.schema, ());
+    }
+
+    # Generates the given number of values and their Avro encoded forms.
+    #
+    # + count - The number of values to generate
+    # + return - The generated samples or else an `error`
+    public function generate(int count) returns Sample[]|error {
+        Sample[] samples = [];
+        foreach int _ in 0 ..< count {
+            samples.push(check self.nextSample());
+        }
+        return samples;
+    }
+
+    # Generates a value and its Avro encoded form.
+    #
+    # + return - The generated sample or else an `error`
+    public function nextSample() returns Sample|error {
+        anydata value = check self.next();
+        return {value, payload: check self.avroSchema.toAvro(value)};
+    }
+
+    # Generates a value of the schema.
+    #
+    # + return - The generated value or else an `error`
+    public function next() returns anydata|error => self.value(self.schema, 0);
+
+    private function registerNamedTypes(json schema, string? namespace) returns error? {
+        if schema is json[] {
+            foreach json branch in schema {
+                check self.registerNamedTypes(branch, namespace);
+            }
+            return;
+        }
+        if schema !is map<json> {
+            return;
+        }
+        json 'type = schema["type"];
+        if 'type == "record" || 'type == "error" || 'type == "enum" || 'type == "fixed" {
+            string name = check schema["name"].ensureType();
+            string? declaredNamespace = check schema["namespace"].ensureType();
+            string? typeNamespace = declaredNamespace ?: namespace;
+            self.namedTypes[name] = schema;
+            self.namedTypes[typeNamespace is () ? name : string `${typeNamespace}.${name}`] = schema;
+            if 'type == "record" || 'type == "error" {
+                json[] fields = check schema["fields"].ensureType();
+                foreach json 'field in fields {
+                    map<json> fieldSchema = check 'field.ensureType();
+                    check self.registerNamedTypes(fieldSchema["type"], typeNamespace);
+                }
+            }
+        } else if 'type == "array" {
+            check self.registerNamedTypes(schema["items"], namespace);
+        } else if 'type == "map" {
+            check self.registerNamedTypes(schema["values"], namespace);
+        } else {
+            check self.registerNamedTypes('type, namespace);
+        }
+    }
+
+    private function value(json schema, int depth) returns anydata|error {
+        json resolved = check self.resolve(schema);
+        if resolved is json[] {
+            return self.value(check self.unionBranch(resolved, depth), depth);
+        }
+        if resolved is map<json> {
+            json 'type = resolved["type"];
+            if 'type == "record" || 'type == "error" {
+                // Only records with required fields of their own type keep nesting beyond the maximum depth
+                if depth > self.config.maxDepth + MAX_NESTING_BEYOND_DEPTH {
+                    return error(string `Values of the record ${typeNameOf(resolved)} can not be nested finitely`);
+                }
+                return self.recordValue(resolved, depth + 1);
+            }
+            if 'type == "enum" {
+                json[] symbols = check resolved["symbols"].ensureType();
+                string symbol = check symbols[self.nextInt(symbols.length())].ensureType();
+                return symbol;
+            }
+            if 'type == "array" {
+                return self.arrayValue(resolved["items"], depth);
+            }
+            if 'type == "map" {
+                map<anydata> values = {};
+                foreach int _ in 0 ..< self.collectionSize(depth) {
+                    values[self.nextString()] = check self.value(resolved["values"], depth + 1);
+                }
+                return values;
+            }
+            int size = check resolved["size"].ensureType();
+            return self.nextBytes(size);
+        }
+        match resolved {
+            "null" => {
+                return ();
+            }
+            "boolean" => {
+                return self.nextLong() < 0;
+            }
+            "int" => {
+                return self.nextLong() >> 32;
+            }
+            "long" => {
+                return self.nextLong();
+            }
+            "float"|"double" => {
+                return self.nextFloat() * 1000.0;
+            }
+            "string" => {
+                return self.nextString();
+            }
+            "bytes" => {
+                return self.nextBytes(self.between(self.config.minStringLength, self.config.maxStringLength));
+            }
+        }
+        return error(string `Unsupported schema: ${resolved.toJsonString()}`);
+    }
+
+    private function recordValue(map<json> schema, int depth) returns record {|anydata...;|}|error {
+        record {|anydata...;|} value = {};
+        json[] fields = check schema["fields"].ensureType();
+        foreach json 'field in fields {
+            map<json> fieldSchema = check 'field.ensureType();
+            string name = check fieldSchema["name"].ensureType();
+            value[name] = check self.value(fieldSchema["type"], depth);
+        }
+        return value;
+    }
+
+    // The serializer reads arrays of primitives and enums as typed arrays, and the members of an array of unions as
+    // the first non-null branch, so the members are generated accordingly.
+    private function arrayValue(json items, int depth) returns anydata[]|error {
+        json itemSchema = check self.resolve(items);
+        if itemSchema is json[] {
+            foreach json branch in itemSchema {
+                if check self.resolve(branch) != NULL_SCHEMA {
+                    return self.arrayValue(branch, depth);
+                }
+            }
+            return [];
+        }
+        int size = self.collectionSize(depth);
+        string kind = kindOf(itemSchema);
+        if kind == "string" {
+            string[] values = [];
+            foreach int _ in 0 ..< size {
+                values.push(check (check self.value(itemSchema, depth + 1)).ensureType());
+            }
+            return values;
+        }
+        if kind == "int" {
+            int[] values = [];
+            foreach int _ in 0 ..< size {
+                values.push(check (check self.value(itemSchema, depth + 1)).ensureType());
+            }
+            return values;
+        }
+        if kind == "float" {
+            float[] values = [];
+            foreach int _ in 0 ..< size {
+                values.push(check (check self.value(itemSchema, depth + 1)).ensureType());
+            }
+            return values;
+        }
+        if kind == "boolean" {
+            boolean[] values = [];
+            foreach int _ in 0 ..< size {
+                values.push(check (check self.value(itemSchema, depth + 1)).ensureType());
+            }
+            return values;
+        }
+        anydata[] values = [];
+        foreach int _ in 0 ..< size {
+            values.push(check self.value(itemSchema, depth + 1));
+        }
+        return values;
+    }
+
+    // The serializer picks the first union branch which accepts the type of the value, so a branch is only generated
+    // if no earlier branch accepts the same values. Beyond the maximum depth, nullable unions are always `null`.
+    private function unionBranch(json[] branches, int depth) returns json|error {
+        json[] candidates = [];
+        float[] weights = [];
+        string[] kinds = [];
+        boolean nullable = false;
+        foreach json branch in branches {
+            json resolved = check self.resolve(branch);
+            string kind = kindOf(resolved);
+            if kind == "null" {
+                nullable = true;
+                continue;
+            }
+            if kinds.indexOf(kind) != () || (kind == "int" && kinds.indexOf("float") != ()) {
+                continue;
+            }
+            kinds.push(kind);
+            candidates.push(resolved);
+            weights.push(self.config.unionBranchWeights[typeNameOf(resolved)] ?: 1.0);
+        }
+        if candidates.length() == 0
+                || (nullable && (depth >= self.config.maxDepth || self.nextFloat() < self.config.nullRatio)) {
+            return NULL_SCHEMA;
+        }
+        float target = self.nextFloat() * float:sum(...weights);
+        foreach int i in 0 ..< candidates.length() {
+            target -= weights[i];
+            if target < 0.0 {
+                return candidates[i];
+            }
+        }
+        return candidates[candidates.length() - 1];
+    }
+
+    // Replaces the references to named types with their definitions, and primitive types with attributes (e.g.,
+    // logical types) with their names.
+    private function resolve(json schema) returns json|error {
+        if schema is string {
+            return self.namedTypes[schema] ?: schema;
+        }
+        if schema is map<json> {
+            json 'type = schema["type"];
+            if 'type !is string {
+                return self.resolve('type);
+            }
+            if kindOf('type) != "complex" {
+                return 'type;
+            }
+            json namedType = self.namedTypes['type];
+            if namedType != () {
+                return namedType;
+            }
+        }
+        return schema;
+    }
+
+    private function collectionSize(int depth) returns int =>
+        depth >= self.config.maxDepth ? 0 : self.between(self.config.minCollectionSize, self.config.maxCollectionSize);
+
+    private function nextString() returns string {
+        int length = self.between(self.config.minStringLength, self.config.maxStringLength);
+        string[] characters = [];
+        foreach int _ in 0 ..< length {
+            characters.push(ALPHABET[self.nextInt(ALPHABET.length())]);
+        }
+        return string:'join("", ...characters);
+    }
+
+    private function nextBytes(int length) returns byte[] {
+        byte[] bytes = [];
+        foreach int _ in 0 ..< length {
+            bytes.push(<byte>self.nextInt(256));
+        }
+        return bytes;
+    }
+
+    private function between(int min, int max) returns int => max <= min ? min : min + self.nextInt(max - min + 1);
+
+    private function nextInt(int bound) returns int => (self.nextLong() >>> 1) % bound;
+
+    private function nextFloat() returns float => <float>(self.nextLong() >>> 11) / 9007199254740992.0;
+
+    // A xorshift generator, which keeps the values reproducible for a seed.
+    private function nextLong() returns int {
+        int x = self.state;
+        x ^= x << 13;
+        x ^= x >>> 7;
+        x ^= x << 17;
+        self.state = x;
+        return x;
+    }
+}
+
+// Groups the Avro types by the Ballerina values which represent them.
+isolated function kindOf(json schema) returns string {
+    if schema is map<json> {
+        json 'type = schema["type"];
+        if 'type == "enum" {
+            return "string";
+        }
+        if 'type == "fixed" || 'type == "array" {
+            return "array";
+        }
+        return 'type == "map" ? "map" : "record";
+    }
+    match schema {
+        "null" => {
+            return "null";
+        }
+        "boolean" => {
+            return "boolean";
+        }
+        "int"|"long" => {
+            return "int";
+        }
+        "float"|"double" => {
+            return "float";
+        }
+        "string" => {
+            return "string";
+        }
+        "bytes" => {
+            return "array";
+        }
+    }
+    return "complex";
+}
+
+isolated function typeNameOf(json schema) returns string {
+    if schema is map<json> {
+        json name = schema["name"];
+        return name is string ? name : schema["type"].toString();
+    }
+    return schema.toString();
+}
@@ -0,0 +1,93 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/avro;
+import ballerina/file;
+import ballerina/io;
+import ballerina/test;
+
+const SCHEMA_RESOURCES = "../../ballerina/tests/resources";
+const SAMPLE_COUNT = 50;
+
+@test:Config {}
+function testSamplesOfTestSchemasRoundTrip() returns error? {
+    file:MetaData[] resources = check file:readDir(SCHEMA_RESOURCES);
+    test:assertTrue(resources.length() > 0, "No schemas found in " + SCHEMA_RESOURCES);
+    foreach file:MetaData 'resource in resources {
+        if !'resource.absPath.endsWith(".json") {
+            continue;
+        }
+        string schema = (check io:fileReadJson('resource.absPath)).toJsonString();
+        check verifyRoundTrip(schema, 'resource.absPath);
+    }
+}
+
+@test:Config {}
+function testRecursiveSchemasWithNullableChildren() returns error? {
+    string schema = string `{
+        "type": "record",
+        "name": "Tree",
+        "fields": [
+            {"name": "label", "type": "string"},
+            {"name": "left", "type": ["null", "Tree"]},
+            {"name": "right", "type": ["null", "Tree"]},
+            {"name": "children", "type": {"type": "array", "items": "Tree"}}
+        ]
+    }`;
+    Generator generator = check new (schema, nullRatio = 0.0, minCollectionSize = 1, maxCollectionSize = 1,
+        maxDepth = 4);
+    anydata value = check generator.next();
+    test:assertEquals(depthOf(value), 4);
+    check verifyRoundTrip(schema, "Tree");
+}
+
+@test:Config {}
+function testRecordsRequiringThemselves() returns error? {
+    string schema = string `{
+        "type": "record",
+        "name": "Chain",
+        "fields": [{"name": "next", "type": "Chain"}]
+    }`;
+    Generator generator = check new (schema);
+    anydata|error value = generator.next();
+    test:assertTrue(value is error);
+    if value is error {
+        test:assertEquals(value.message(), "Values of the record Chain can not be nested finitely");
+    }
+}
+
+function verifyRoundTrip(string schema, string name) returns error? {
+    avro:Schema avroSchema = check new (schema);
+    Generator generator = check new (schema);
+    foreach Sample sample in check generator.generate(SAMPLE_COUNT) {
+        anydata decoded = check avroSchema.fromAvro(sample.payload);
+        test:assertEquals(check avroSchema.toAvro(decoded), sample.payload,
+            string `Sample of ${name} does not round-trip`);
+    }
+}
+
+// The number of nested records, counting the record itself
+function depthOf(anydata value) returns int {
+    if value !is map<anydata> {
+        return 0;
+    }
+    int depth = 0;
+    foreach anydata child in value {
+        int childDepth = child is anydata[] ? int:max(0, ...child.'map(depthOf)) : depthOf(child);
+        depth = int:max(depth, childDepth);
+    }
+    return depth + 1;
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.compiler;
+
+import io.ballerina.projects.DiagnosticResult;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.ProjectEnvironmentBuilder;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.projects.environment.Environment;
+import io.ballerina.projects.environment.EnvironmentBuilder;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Tests the diagnostics reported by the Avro compiler plugin for the sample packages.
+ *
+ * @since 1.2.1
+ */
+public class CompilerPluginTest {
+
+    private static final Path RESOURCE_DIRECTORY = Paths.get("src", "test", "resources", "ballerina_sources")
+            .toAbsolutePath();
+    private static final Path DISTRIBUTION_PATH = Paths.get("../", "target", "ballerina-runtime").toAbsolutePath();
+
+    @Test
+    public void testInvalidConstantSchemas() {
+        List<Diagnostic> errors = getErrors("sample_package_1");
+        Assert.assertEquals(errors.size(), 2);
+        for (Diagnostic error : errors) {
+            Assert.assertEquals(error.diagnosticInfo().code(), AvroDiagnosticCodes.AVRO_101.getCode());
+            Assert.assertTrue(error.message().startsWith("invalid Avro schema: "), error.message());
+        }
+        Assert.assertTrue(errors.get(0).message().contains("uuid"), errors.get(0).message());
+        Assert.assertTrue(errors.get(1).message().contains("quantity"), errors.get(1).message());
+    }
+
+    @Test
+    public void testValidConstantSchemas() {
+        Assert.assertEquals(getErrors("sample_package_2").size(), 0);
+    }
+
+    @Test
+    public void testNonConstantSchemas() {
+        // The schemas are only known at runtime, so they are not validated even though they are invalid.
+        Assert.assertEquals(getErrors("sample_package_3").size(), 0);
+    }
+
+    private static List<Diagnostic> getErrors(String packageName) {
+        DiagnosticResult diagnosticResult = loadPackage(packageName).getCompilation().diagnosticResult();
+        return diagnosticResult.diagnostics().stream()
+                .filter(diagnostic -> diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.ERROR)
+                .toList();
+    }
+
+    private static Package loadPackage(String packageName) {
+        Environment environment = EnvironmentBuilder.getBuilder().setBallerinaHome(DISTRIBUTION_PATH).build();
+        ProjectEnvironmentBuilder environmentBuilder = ProjectEnvironmentBuilder.getBuilder(environment);
+        BuildProject project = BuildProject.load(environmentBuilder, RESOURCE_DIRECTORY.resolve(packageName));
+        return project.currentPackage();
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.lib.avro.compiler;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.ConstantSymbol;
+import io.ballerina.compiler.api.symbols.ModuleSymbol;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.TypeDescKind;
+import io.ballerina.compiler.api.symbols.TypeSymbol;
+import io.ballerina.compiler.api.symbols.UnionTypeSymbol;
+import io.ballerina.compiler.api.values.ConstantValue;
+import io.ballerina.compiler.syntax.tree.BasicLiteralNode;
+import io.ballerina.compiler.syntax.tree.ExplicitNewExpressionNode;
+import io.ballerina.compiler.syntax.tree.ExpressionNode;
+import io.ballerina.compiler.syntax.tree.FunctionArgumentNode;
+import io.ballerina.compiler.syntax.tree.ImplicitNewExpressionNode;
+import io.ballerina.compiler.syntax.tree.NamedArgumentNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.ParenthesizedArgList;
+import io.ballerina.compiler.syntax.tree.PositionalArgumentNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.TemplateExpressionNode;
+import io.ballerina.projects.plugins.AnalysisTask;
+import io.ballerina.projects.plugins.SyntaxNodeAnalysisContext;
+import io.ballerina.tools.diagnostics.DiagnosticFactory;
+import io.ballerina.tools.diagnostics.DiagnosticInfo;
+import org.apache.avro.AvroRuntimeException;
+import org.apache.avro.Schema;
+
+import java.util.Optional;
+
+import static io.ballerina.lib.avro.compiler.AvroDiagnosticCodes.AVRO_101;
+
+/**
+ * Validates the schema of each {@code new avro:Schema(...)} expression whose schema is a compile-time constant: a
+ * string literal, a string template without interpolations, or a reference to a string constant. A schema which
+ * cannot be parsed is reported at build time, instead of as an error of the {@code init} method at runtime.
+ *
+ * @since 1.2.1
+ */
+public class SchemaValidator implements AnalysisTask<SyntaxNodeAnalysisContext> {
+
+    private static final String ORG_NAME = "ballerina";
+    private static final String MODULE_NAME = "avro";
+    private static final String SCHEMA_CLASS = "Schema";
+    private static final String SCHEMA_PARAMETER = "schema";
+
+    @Override
+    public void perform(SyntaxNodeAnalysisContext context) {
+        SemanticModel semanticModel = context.semanticModel();
+        Node node = context.node();
+        Optional<TypeSymbol> type = semanticModel.typeOf(node);
+        if (type.isEmpty() || !isAvroSchema(type.get())) {
+            return;
+        }
+        Optional<ExpressionNode> schemaArgument = getSchemaArgument(node);
+        if (schemaArgument.isEmpty()) {
+            return;
+        }
+        Optional<String> schema = getConstantString(semanticModel, schemaArgument.get());
+        if (schema.isEmpty()) {
+            return;
+        }
+        try {
+            new Schema.Parser().parse(schema.get());
+        } catch (AvroRuntimeException e) {
+            DiagnosticInfo diagnosticInfo = new DiagnosticInfo(AVRO_101.getCode(), AVRO_101.getMessage(),
+                                                               AVRO_101.getSeverity());
+            context.reportDiagnostic(DiagnosticFactory.createDiagnostic(diagnosticInfo,
+                                                                        schemaArgument.get().location(),
+                                                                        e.getMessage()));
+        }
+    }
+
+    private static boolean isAvroSchema(TypeSymbol typeSymbol) {
+        if (typeSymbol.typeKind() == TypeDescKind.UNION) {
+            // The type of `new` is a union with the error type when `init` returns an error.
+            return ((UnionTypeSymbol) typeSymbol).memberTypeDescriptors().stream()
+                    .anyMatch(SchemaValidator::isAvroSchema);
+        }
+        if (typeSymbol.getName().filter(SCHEMA_CLASS::equals).isEmpty()) {
+            return false;
+        }
+        Optional<ModuleSymbol> module = typeSymbol.getModule();
+        return module.isPresent() && ORG_NAME.equals(module.get().id().orgName())
+                && MODULE_NAME.equals(module.get().id().moduleName());
+    }
+
+    private static Optional<ExpressionNode> getSchemaArgument(Node node) {
+        Optional<ParenthesizedArgList> argList = node.kind() == SyntaxKind.IMPLICIT_NEW_EXPRESSION
+                ? ((ImplicitNewExpressionNode) node).parenthesizedArgList()
+                : Optional.of(((ExplicitNewExpressionNode) node).parenthesizedArgList());
+        if (argList.isEmpty()) {
+            return Optional.empty();
+        }
+        for (FunctionArgumentNode argument : argList.get().arguments()) {
+            if (argument instanceof PositionalArgumentNode positionalArgument) {
+                return Optional.of(positionalArgument.expression());
+            }
+            if (argument instanceof NamedArgumentNode namedArgument
+                    && SCHEMA_PARAMETER.equals(namedArgument.argumentName().name().text())) {
+                return Optional.of(namedArgument.expression());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<String> getConstantString(SemanticModel semanticModel, ExpressionNode expression) {
+        switch (expression.kind()) {
+            case STRING_LITERAL -> {
+                String literal = ((BasicLiteralNode) expression).literalToken().text();
+                return Optional.of(unescape(literal.substring(1, literal.length() - 1)));
+            }
+            case STRING_TEMPLATE_EXPRESSION -> {
+                StringBuilder template = new StringBuilder();
+                for (Node member : ((TemplateExpressionNode) expression).content()) {
+                    if (member.kind() == SyntaxKind.INTERPOLATION) {
+                        return Optional.empty();
+                    }
+                    template.append(member.toSourceCode());
+                }
+                return Optional.of(template.toString());
+            }
+            case SIMPLE_NAME_REFERENCE, QUALIFIED_NAME_REFERENCE -> {
+                Optional<Symbol> symbol = semanticModel.symbol(expression);
+                if (symbol.isEmpty() || !(symbol.get() instanceof ConstantSymbol constant)) {
+                    return Optional.empty();
+                }
+                Object value = constant.constValue();
+                if (value instanceof ConstantValue constantValue) {
+                    value = constantValue.value();
+                }
+                return value instanceof String stringValue ? Optional.of(stringValue) : Optional.empty();
+            }
+            default -> {
+                return Optional.empty();
+            }
+        }
+    }
+
+    private static String unescape(String literal) {
+        if (literal.indexOf('\\') < 0) {
+            return literal;
+        }
+        StringBuilder value = new StringBuilder(literal.length());
+        for (int i = 0; i < literal.length(); i++) {
+            char character = literal.charAt(i);
+            if (character != '\\' || i + 1 == literal.length()) {
+                value.append(character);
+                continue;
+            }
+            char escaped = literal.charAt(++i);
+            switch (escaped) {
+                case 'n' -> value.append('\n');
+                case 't' -> value.append('\t');
+                case 'r' -> value.append('\r');
+                case 'u' -> {
+                    // A Unicode escape of the form \u{XXXX}.
+                    int end = literal.indexOf('}', i);
+                    value.appendCodePoint(Integer.parseInt(literal.substring(i + 2, end), 16));
+                    i = end;
+                }
+                default -> value.append(escaped);
+            }
+        }
+        return value.toString();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.benchmarks;
+
+import io.ballerina.lib.avro.Avro;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.io.DecoderFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code fromAvro} against a plain Avro read into generic records.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DeserializeBenchmark {
+
+    @Param
+    private Shape shape;
+
+    private Fixture fixture;
+    private BArray payload;
+    private GenericDatumReader<Object> avroReader;
+
+    @Setup
+    public void setup() throws Exception {
+        fixture = Fixture.of(shape);
+        payload = ValueCreator.createArrayValue(fixture.payload());
+        avroReader = new GenericDatumReader<>(fixture.schema());
+    }
+
+    @Benchmark
+    public Object fromAvro() throws Exception {
+        return Avro.deserialize(fixture.schema(), fixture.enumTables(), null, payload, fixture.type());
+    }
+
+    @Benchmark
+    public Object avroBaseline() throws Exception {
+        return avroReader.read(null, DecoderFactory.get().binaryDecoder(fixture.payload(), null));
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.benchmarks;
+
+import io.ballerina.lib.avro.Avro;
+import io.ballerina.lib.avro.EnumTables;
+import io.ballerina.lib.avro.serialize.MessageFactory;
+import io.ballerina.lib.avro.serialize.visitor.SerializeVisitor;
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.flags.TypeFlags;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.apache.avro.Schema;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static io.ballerina.runtime.api.utils.StringUtils.fromString;
+
+/**
+ * A benchmark input: an Avro schema, the Ballerina type and value derived from it, and their Avro equivalents.
+ */
+public final class Fixture {
+
+    private static final Module MODULE = new Module("ballerina", "avro", "1");
+    private static final int COLLECTION_SIZE = 3;
+
+    private final Schema schema;
+    private final EnumTables enumTables = new EnumTables();
+    private final Map<String, Type> recordTypes = new HashMap<>();
+    private final Type type;
+    private final Object value;
+    private final Object avroDatum;
+    private final byte[] payload;
+
+    private Fixture(Schema schema) throws Exception {
+        this.schema = schema;
+        this.type = typeOf(schema);
+        this.value = valueOf(schema, type);
+        this.avroDatum = MessageFactory.createMessage(schema).convert(new SerializeVisitor(enumTables), value);
+        this.payload = Avro.serialize(schema, enumTables, value);
+    }
+
+    public static Fixture of(Shape shape) throws Exception {
+        try (InputStream inputStream = Fixture.class.getClassLoader().getResourceAsStream(shape.getResource())) {
+            Objects.requireNonNull(inputStream, "Schema not found: " + shape.getResource());
+            return new Fixture(new Schema.Parser().parse(inputStream));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read the schema of " + shape, e);
+        }
+    }
+
+    public Schema schema() {
+        return schema;
+    }
+
+    public EnumTables enumTables() {
+        return enumTables;
+    }
+
+    public Type type() {
+        return type;
+    }
+
+    public Object value() {
+        return value;
+    }
+
+    public Object avroDatum() {
+        return avroDatum;
+    }
+
+    public byte[] payload() {
+        return payload;
+    }
+
+    private Type typeOf(Schema schema) {
+        return switch (schema.getType()) {
+            case RECORD -> recordTypeOf(schema);
+            case ARRAY -> TypeCreator.createArrayType(typeOf(schema.getElementType()));
+            case MAP -> TypeCreator.createMapType(typeOf(schema.getValueType()));
+            case UNION -> TypeCreator.createUnionType(schema.getTypes().stream().map(this::typeOf).toArray(Type[]::new));
+            case BYTES, FIXED -> TypeCreator.createArrayType(PredefinedTypes.TYPE_BYTE);
+            case STRING, ENUM -> PredefinedTypes.TYPE_STRING;
+            case INT, LONG -> PredefinedTypes.TYPE_INT;
+            case FLOAT, DOUBLE -> PredefinedTypes.TYPE_FLOAT;
+            case BOOLEAN -> PredefinedTypes.TYPE_BOOLEAN;
+            case NULL -> PredefinedTypes.TYPE_NULL;
+        };
+    }
+
+    private Type recordTypeOf(Schema schema) {
+        Type recordType = recordTypes.get(schema.getFullName());
+        if (recordType != null) {
+            return recordType;
+        }
+        Map<String, Field> fields = new LinkedHashMap<>();
+        for (Schema.Field field : schema.getFields()) {
+            Field recordField = TypeCreator.createField(typeOf(field.schema()), field.name(),
+                                                        SymbolFlags.REQUIRED | SymbolFlags.PUBLIC);
+            fields.put(field.name(), recordField);
+        }
+        recordType = TypeCreator.createRecordType(schema.getName(), MODULE, SymbolFlags.PUBLIC, fields,
+                                                  PredefinedTypes.TYPE_ANYDATA, false,
+                                                  TypeFlags.asMask(TypeFlags.ANYDATA, TypeFlags.PURETYPE));
+        recordTypes.put(schema.getFullName(), recordType);
+        return recordType;
+    }
+
+    private Object valueOf(Schema schema, Type type) {
+        return switch (schema.getType()) {
+            case RECORD -> recordValueOf(schema, (RecordType) type);
+            case ARRAY -> arrayValueOf(schema.getElementType(), (ArrayType) type);
+            case MAP -> {
+                BMap<BString, Object> map = ValueCreator.createMapValue(type);
+                Type valueType = ((MapType) type).getConstrainedType();
+                for (int i = 0; i < COLLECTION_SIZE; i++) {
+                    map.put(fromString("key" + i), valueOf(schema.getValueType(), valueType));
+                }
+                yield map;
+            }
+            case UNION -> {
+                // The last branch is the most complex one in the test schemas, e.g., the record of a nullable record.
+                List<Schema> branches = schema.getTypes();
+                Schema branch = branches.get(branches.size() - 1);
+                if (branch.getType() == Schema.Type.NULL) {
+                    branch = branches.get(0);
+                }
+                yield valueOf(branch, typeOf(branch));
+            }
+            case BYTES -> ValueCreator.createArrayValue("bytes".getBytes());
+            case FIXED -> ValueCreator.createArrayValue(new byte[schema.getFixedSize()]);
+            case STRING -> fromString("value");
+            case ENUM -> fromString(schema.getEnumSymbols().get(0));
+            case INT, LONG -> 42L;
+            case FLOAT, DOUBLE -> 4.2d;
+            case BOOLEAN -> true;
+            case NULL -> null;
+        };
+    }
+
+    private BMap<BString, Object> recordValueOf(Schema schema, RecordType type) {
+        BMap<BString, Object> record = ValueCreator.createRecordValue(type);
+        for (Schema.Field field : schema.getFields()) {
+            Type fieldType = type.getFields().get(field.name()).getFieldType();
+            record.put(fromString(field.name()), valueOf(field.schema(), fieldType));
+        }
+        return record;
+    }
+
+    private BArray arrayValueOf(Schema elementSchema, ArrayType type) {
+        return switch (elementSchema.getType()) {
+            case STRING, ENUM -> {
+                BString[] values = new BString[COLLECTION_SIZE];
+                for (int i = 0; i < COLLECTION_SIZE; i++) {
+                    values[i] = (BString) valueOf(elementSchema, type.getElementType());
+                }
+                yield ValueCreator.createArrayValue(values);
+            }
+            case INT, LONG -> ValueCreator.createArrayValue(new long[]{1, 2, 3});
+            case FLOAT, DOUBLE -> ValueCreator.createArrayValue(new double[]{1.1, 2.2, 3.3});
+            case BOOLEAN -> ValueCreator.createArrayValue(new boolean[]{true, false, true});
+            default -> {
+                Object[] values = new Object[COLLECTION_SIZE];
+                for (int i = 0; i < COLLECTION_SIZE; i++) {
+                    values[i] = valueOf(elementSchema, type.getElementType());
+                }
+                yield ValueCreator.createArrayValue(values, type);
+            }
+        };
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.benchmarks;
+
+import io.ballerina.lib.avro.Avro;
+import io.ballerina.lib.avro.serialize.CompiledSerializer;
+import io.ballerina.lib.avro.serialize.EncodedSize;
+import io.ballerina.lib.avro.serialize.EncodingOptions;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code toAvro}, with the visitor and with the compiled plan of the schema, and {@code encodedSize} against
+ * a plain Avro write of the already converted datum.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SerializeBenchmark {
+
+    @Param
+    private Shape shape;
+
+    private Fixture fixture;
+    private GenericDatumWriter<Object> avroWriter;
+    private CompiledSerializer compiledSerializer;
+    private EncodedSize encodedSize;
+
+    @Setup
+    public void setup() throws Exception {
+        fixture = Fixture.of(shape);
+        avroWriter = new GenericDatumWriter<>(fixture.schema());
+        compiledSerializer = CompiledSerializer.compile(fixture.schema(), fixture.enumTables());
+        encodedSize = new EncodedSize(fixture.enumTables());
+    }
+
+    @Benchmark
+    public byte[] toAvro() throws Exception {
+        return Avro.serialize(fixture.schema(), fixture.enumTables(), fixture.value());
+    }
+
+    @Benchmark
+    public byte[] toAvroCompiled() throws Exception {
+        return Avro.serialize(fixture.schema(), fixture.enumTables(), fixture.value(), EncodingOptions.DEFAULT, null,
+                              null, compiledSerializer);
+    }
+
+    @Benchmark
+    public long encodedSize() throws Exception {
+        return encodedSize.of(fixture.schema(), fixture.value());
+    }
+
+    @Benchmark
+    public byte[] avroBaseline() throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(outputStream, null);
+        avroWriter.write(fixture.avroDatum(), encoder);
+        encoder.flush();
+        return outputStream.toByteArray();
+    }
+}
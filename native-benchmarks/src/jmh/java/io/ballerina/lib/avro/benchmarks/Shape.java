@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.benchmarks;
+
+/**
+ * The schema shapes exercised by the benchmarks, backed by the schemas of the Ballerina tests.
+ */
+public enum Shape {
+
+    PRIMITIVE("schema_primitive.json"),
+    NESTED_RECORDS("schema_nested_records.json"),
+    MAP_RECORD_ARRAY("schema_map_record_array.json"),
+    UNION("schema_union_records.json"),
+    FIXED("schema_union_fixed.json"),
+    BYTES("schema_bytes.json");
+
+    private final String resource;
+
+    Shape(String resource) {
+        this.resource = resource;
+    }
+
+    public String getResource() {
+        return resource;
+    }
+}
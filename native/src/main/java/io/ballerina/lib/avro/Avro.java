@@ -18,20 +18,41 @@
 
 package io.ballerina.lib.avro;
 
+import io.ballerina.lib.avro.deserialize.BallerinaDatumReader;
+import io.ballerina.lib.avro.deserialize.DecodedValueCache;
 import io.ballerina.lib.avro.deserialize.DeserializeFactory;
 import io.ballerina.lib.avro.deserialize.Deserializer;
+import io.ballerina.lib.avro.deserialize.FieldPath;
+import io.ballerina.lib.avro.deserialize.InPlaceReader;
+import io.ballerina.lib.avro.deserialize.SegmentedInputStream;
+import io.ballerina.lib.avro.deserialize.StringCache;
 import io.ballerina.lib.avro.deserialize.visitor.DeserializeVisitor;
+import io.ballerina.lib.avro.observability.DeserializationEvent;
+import io.ballerina.lib.avro.observability.FieldProfiler;
+import io.ballerina.lib.avro.observability.SchemaMetrics;
+import io.ballerina.lib.avro.observability.SerializationEvent;
+import io.ballerina.lib.avro.serialize.BallerinaDatumWriter;
+import io.ballerina.lib.avro.serialize.CompiledSerializer;
+import io.ballerina.lib.avro.serialize.EncodedSize;
+import io.ballerina.lib.avro.serialize.EncodedValueCache;
+import io.ballerina.lib.avro.serialize.Encoders;
+import io.ballerina.lib.avro.serialize.EncodingOptions;
+import io.ballerina.lib.avro.serialize.HashingOutputStream;
 import io.ballerina.lib.avro.serialize.MessageFactory;
+import io.ballerina.lib.avro.serialize.SegmentedOutputStream;
 import io.ballerina.lib.avro.serialize.Serializer;
+import io.ballerina.lib.avro.serialize.SizeEstimator;
+import io.ballerina.lib.avro.serialize.SyntheticMessage;
 import io.ballerina.lib.avro.serialize.visitor.SerializeVisitor;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
 import org.apache.avro.Schema;
-import org.apache.avro.generic.GenericDatumReader;
-import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.io.BinaryData;
 import org.apache.avro.io.BinaryDecoder;
 import org.apache.avro.io.BinaryEncoder;
 import org.apache.avro.io.DatumReader;
@@ -40,50 +61,471 @@ import org.apache.avro.io.DecoderFactory;
 import org.apache.avro.io.EncoderFactory;
 
 import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntSupplier;
 
 import static io.ballerina.lib.avro.Utils.AVRO_SCHEMA;
+import static io.ballerina.lib.avro.Utils.BYTE_ARRAYS_TYPE;
+import static io.ballerina.lib.avro.Utils.CANONICAL_SERIALIZER;
+import static io.ballerina.lib.avro.Utils.COMPARISON_ERROR;
+import static io.ballerina.lib.avro.Utils.COMPILED_SERIALIZER;
+import static io.ballerina.lib.avro.Utils.COMPILE_SERIALIZER;
+import static io.ballerina.lib.avro.Utils.DECODED_VALUE_CACHE;
+import static io.ballerina.lib.avro.Utils.DECODED_VALUE_CACHE_SIZE;
 import static io.ballerina.lib.avro.Utils.DESERIALIZATION_ERROR;
+import static io.ballerina.lib.avro.Utils.ENCODED_SIZE;
+import static io.ballerina.lib.avro.Utils.ENCODED_VALUE_CACHE;
+import static io.ballerina.lib.avro.Utils.ENCODED_VALUE_CACHE_SIZE;
+import static io.ballerina.lib.avro.Utils.ENUM_TABLES;
+import static io.ballerina.lib.avro.Utils.FIELD_PATHS;
+import static io.ballerina.lib.avro.Utils.FIELD_PROFILER;
+import static io.ballerina.lib.avro.Utils.IN_PLACE_READER;
+import static io.ballerina.lib.avro.Utils.METRICS;
+import static io.ballerina.lib.avro.Utils.PROFILE_FIELDS;
 import static io.ballerina.lib.avro.Utils.SERIALIZATION_ERROR;
+import static io.ballerina.lib.avro.Utils.SIZE_ESTIMATOR;
+import static io.ballerina.lib.avro.Utils.STRING_CACHE;
+import static io.ballerina.lib.avro.Utils.STRING_CACHE_SIZE;
 import static io.ballerina.lib.avro.Utils.createError;
+import static io.ballerina.lib.avro.Utils.createSegments;
+import static io.ballerina.lib.avro.Utils.getEncodingOptions;
 
 public final class Avro {
 
+    private static final int WARMUP_ROUNDS = 100;
+    private static final int MAX_FIELD_PATHS = 256;
+
     private Avro() {}
 
-    public static void generateSchema(BObject schemaObject, BString schema) {
+    public static void generateSchema(BObject schemaObject, BString schema, BMap<BString, Object> config) {
         Schema.Parser parser = new Schema.Parser();
         Schema nativeSchema = parser.parse(schema.getValue());
         schemaObject.addNativeData(AVRO_SCHEMA, nativeSchema);
+        EnumTables enumTables = new EnumTables();
+        schemaObject.addNativeData(ENUM_TABLES, enumTables);
+        schemaObject.addNativeData(ENCODED_SIZE, new EncodedSize(enumTables));
+        schemaObject.addNativeData(CANONICAL_SERIALIZER, CompiledSerializer.compile(nativeSchema, enumTables, true));
+        long stringCacheSize = config.getIntValue(STRING_CACHE_SIZE);
+        StringCache stringCache = stringCacheSize > 0 ? new StringCache(stringCacheSize) : null;
+        schemaObject.addNativeData(STRING_CACHE, stringCache);
+        schemaObject.addNativeData(IN_PLACE_READER, new InPlaceReader(nativeSchema, enumTables, stringCache));
+        schemaObject.addNativeData(SIZE_ESTIMATOR, new SizeEstimator());
+        schemaObject.addNativeData(FIELD_PATHS, new ConcurrentHashMap<String, FieldPath>());
+        long decodedValueCacheSize = config.getIntValue(DECODED_VALUE_CACHE_SIZE);
+        DecodedValueCache decodedValueCache = null;
+        if (decodedValueCacheSize > 0) {
+            decodedValueCache = new DecodedValueCache(decodedValueCacheSize);
+            schemaObject.addNativeData(DECODED_VALUE_CACHE, decodedValueCache);
+        }
+        long encodedValueCacheSize = config.getIntValue(ENCODED_VALUE_CACHE_SIZE);
+        EncodedValueCache encodedValueCache = null;
+        if (encodedValueCacheSize > 0) {
+            encodedValueCache = new EncodedValueCache(encodedValueCacheSize);
+            schemaObject.addNativeData(ENCODED_VALUE_CACHE, encodedValueCache);
+        }
+        schemaObject.addNativeData(METRICS,
+                SchemaMetrics.create(nativeSchema, stringCache, encodedValueCache, decodedValueCache));
+        if (config.getBooleanValue(PROFILE_FIELDS)) {
+            schemaObject.addNativeData(FIELD_PROFILER, new FieldProfiler());
+        }
+        if (config.getBooleanValue(COMPILE_SERIALIZER)) {
+            schemaObject.addNativeData(COMPILED_SERIALIZER, CompiledSerializer.compile(nativeSchema, enumTables));
+        }
     }
 
-    public static Object toAvro(BObject schemaObject, Object data) {
+    public static Object toAvro(BObject schemaObject, Object data, BMap<BString, Object> config) {
         Schema schema = (Schema) schemaObject.getNativeData(AVRO_SCHEMA);
-        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-            SerializeVisitor serializeVisitor = new SerializeVisitor();
-            Serializer serializer = MessageFactory.createMessage(schema);
-            Object avroData = Objects.requireNonNull(serializer).convert(serializeVisitor, data);
-            DatumWriter<Object> writer = new GenericDatumWriter<>(schema);
-            BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(outputStream, null);
-            writer.write(avroData, encoder);
-            encoder.flush();
-            return ValueCreator.createArrayValue(outputStream.toByteArray());
+        EnumTables enumTables = (EnumTables) schemaObject.getNativeData(ENUM_TABLES);
+        SchemaMetrics metrics = (SchemaMetrics) schemaObject.getNativeData(METRICS);
+        FieldProfiler profiler = (FieldProfiler) schemaObject.getNativeData(FIELD_PROFILER);
+        SizeEstimator sizeEstimator = (SizeEstimator) schemaObject.getNativeData(SIZE_ESTIMATOR);
+        EncodedValueCache encodedValueCache = (EncodedValueCache) schemaObject.getNativeData(ENCODED_VALUE_CACHE);
+        CompiledSerializer compiledSerializer = (CompiledSerializer) schemaObject.getNativeData(COMPILED_SERIALIZER);
+        SerializationEvent event = new SerializationEvent();
+        event.begin();
+        long startTime = System.nanoTime();
+        try {
+            EncodingOptions options = getEncodingOptions(config);
+            EncodedValueCache cache = options.equals(EncodingOptions.DEFAULT)
+                    && EncodedValueCache.isCacheable(data) ? encodedValueCache : null;
+            byte[] payload = cache == null ? null : cache.get(data);
+            if (cache != null && metrics != null) {
+                metrics.recordEncodedValueCacheLookup(payload != null);
+            }
+            if (payload != null) {
+                // The cached encoding is shared, so the caller gets a copy which it is free to modify.
+                payload = payload.clone();
+                event.cached = true;
+            } else {
+                payload = serialize(schema, enumTables, data, options, sizeEstimator, profiler, compiledSerializer,
+                        event);
+                if (cache != null) {
+                    cache.put(data, payload.clone());
+                }
+            }
+            event.complete(schema, payload.length);
+            if (metrics != null) {
+                metrics.recordSerialization(System.nanoTime() - startTime, payload.length);
+            }
+            return ValueCreator.createArrayValue(payload);
         } catch (Exception e) {
+            if (metrics != null) {
+                metrics.recordSerializationError(e);
+            }
             return Utils.createError(SERIALIZATION_ERROR, e);
         }
     }
 
+    public static byte[] serialize(Schema schema, EnumTables enumTables, Object data) throws Exception {
+        return serialize(schema, enumTables, data, EncodingOptions.DEFAULT, null, null);
+    }
+
+    public static byte[] serialize(Schema schema, EnumTables enumTables, Object data, EncodingOptions options,
+                                   SizeEstimator sizeEstimator, FieldProfiler profiler) throws Exception {
+        return serialize(schema, enumTables, data, options, sizeEstimator, profiler, null);
+    }
+
+    public static byte[] serialize(Schema schema, EnumTables enumTables, Object data, EncodingOptions options,
+                                   SizeEstimator sizeEstimator, FieldProfiler profiler,
+                                   CompiledSerializer compiledSerializer) throws Exception {
+        return serialize(schema, enumTables, data, options, sizeEstimator, profiler, compiledSerializer, null);
+    }
+
+    private static byte[] serialize(Schema schema, EnumTables enumTables, Object data, EncodingOptions options,
+                                    SizeEstimator sizeEstimator, FieldProfiler profiler,
+                                    CompiledSerializer compiledSerializer, SerializationEvent event)
+            throws Exception {
+        try (ByteArrayOutputStream outputStream = sizeEstimator == null ? new ByteArrayOutputStream()
+                : new ByteArrayOutputStream(sizeEstimator.getInitialCapacity())) {
+            BinaryEncoder encoder = Encoders.create(outputStream, options.blockSize());
+            boolean written = false;
+            if (isCompiled(compiledSerializer, options, profiler)) {
+                try {
+                    compiledSerializer.write(data, encoder);
+                    encoder.flush();
+                    written = true;
+                    if (event != null) {
+                        event.compiled = true;
+                    }
+                } catch (RuntimeException e) {
+                    // The visitor path reports the error, or serializes a value of a shape the plan did not expect.
+                    outputStream.reset();
+                    encoder = Encoders.create(outputStream, options.blockSize());
+                }
+            }
+            if (!written) {
+                serialize(schema, enumTables, data, encoder, outputStream::size, options.canonical(), profiler);
+            }
+            if (sizeEstimator != null) {
+                sizeEstimator.record(outputStream.size());
+            }
+            return outputStream.toByteArray();
+        }
+    }
+
+    private static boolean isCompiled(CompiledSerializer compiledSerializer, EncodingOptions options,
+                                      FieldProfiler profiler) {
+        return compiledSerializer != null && options.equals(EncodingOptions.DEFAULT) && profiler == null;
+    }
+
+    private static void serialize(Schema schema, EnumTables enumTables, Object data, BinaryEncoder encoder,
+                                  IntSupplier size, boolean canonical, FieldProfiler profiler) throws Exception {
+        SerializeVisitor serializeVisitor = new SerializeVisitor(enumTables);
+        Serializer serializer = MessageFactory.createMessage(schema);
+        Object avroData = Objects.requireNonNull(serializer).convert(serializeVisitor, data);
+        // The profiler measures the bytes written by each field, including those the encoder still buffers.
+        DatumWriter<Object> writer = new BallerinaDatumWriter(schema, canonical, profiler,
+                () -> size.getAsInt() + encoder.bytesBuffered());
+        writer.write(avroData, encoder);
+        encoder.flush();
+    }
+
+    public static Object toAvroSegments(BObject schemaObject, Object data, long segmentSize) {
+        Schema schema = (Schema) schemaObject.getNativeData(AVRO_SCHEMA);
+        EnumTables enumTables = (EnumTables) schemaObject.getNativeData(ENUM_TABLES);
+        SchemaMetrics metrics = (SchemaMetrics) schemaObject.getNativeData(METRICS);
+        FieldProfiler profiler = (FieldProfiler) schemaObject.getNativeData(FIELD_PROFILER);
+        SerializationEvent event = new SerializationEvent();
+        event.begin();
+        long startTime = System.nanoTime();
+        try {
+            SegmentedOutputStream outputStream = new SegmentedOutputStream((int) segmentSize);
+            BinaryEncoder encoder = Encoders.create(outputStream, 0);
+            serialize(schema, enumTables, data, encoder, outputStream::size, false, profiler);
+            event.complete(schema, outputStream.size());
+            if (metrics != null) {
+                metrics.recordSerialization(System.nanoTime() - startTime, outputStream.size());
+            }
+            return createSegments(outputStream.toSegments());
+        } catch (Exception e) {
+            if (metrics != null) {
+                metrics.recordSerializationError(e);
+            }
+            return createError(SERIALIZATION_ERROR, e);
+        }
+    }
+
+    public static Object hash(BObject schemaObject, Object data) {
+        Schema schema = (Schema) schemaObject.getNativeData(AVRO_SCHEMA);
+        EnumTables enumTables = (EnumTables) schemaObject.getNativeData(ENUM_TABLES);
+        CompiledSerializer canonicalSerializer =
+                (CompiledSerializer) schemaObject.getNativeData(CANONICAL_SERIALIZER);
+        try {
+            HashingOutputStream outputStream = new HashingOutputStream();
+            // The direct encoder writes through to the hash, so the encoding is never held in memory.
+            BinaryEncoder encoder = EncoderFactory.get().directBinaryEncoder(outputStream, null);
+            if (canonicalSerializer != null) {
+                try {
+                    // The plan writes the value straight to the encoder, without building an Avro datum.
+                    canonicalSerializer.write(data, encoder);
+                    return outputStream.getHash();
+                } catch (RuntimeException e) {
+                    // The visitor path reports the error, or hashes a value of a shape the plan did not expect.
+                    outputStream = new HashingOutputStream();
+                    encoder = EncoderFactory.get().directBinaryEncoder(outputStream, null);
+                }
+            }
+            serialize(schema, enumTables, data, encoder, outputStream::size, true, null);
+            return outputStream.getHash();
+        } catch (Exception e) {
+            return createError(SERIALIZATION_ERROR, e);
+        }
+    }
+
+    public static Object encodedSize(BObject schemaObject, Object data) {
+        Schema schema = (Schema) schemaObject.getNativeData(AVRO_SCHEMA);
+        EncodedSize encodedSize = (EncodedSize) schemaObject.getNativeData(ENCODED_SIZE);
+        try {
+            return encodedSize.of(schema, data);
+        } catch (Exception e) {
+            return createError(SERIALIZATION_ERROR, e);
+        }
+    }
+
+    public static long getEncodedSizeEstimate(BObject schemaObject) {
+        return ((SizeEstimator) schemaObject.getNativeData(SIZE_ESTIMATOR)).getEstimate();
+    }
+
     public static Object fromAvro(BObject schemaObject, BArray payload, BTypedesc typeParam) {
         Schema schema = (Schema) schemaObject.getNativeData(AVRO_SCHEMA);
-        DatumReader<Object> datumReader = new GenericDatumReader<>(schema);
+        EnumTables enumTables = (EnumTables) schemaObject.getNativeData(ENUM_TABLES);
+        StringCache stringCache = (StringCache) schemaObject.getNativeData(STRING_CACHE);
+        SchemaMetrics metrics = (SchemaMetrics) schemaObject.getNativeData(METRICS);
+        FieldProfiler profiler = (FieldProfiler) schemaObject.getNativeData(FIELD_PROFILER);
+        DecodedValueCache decodedValueCache = (DecodedValueCache) schemaObject.getNativeData(DECODED_VALUE_CACHE);
+        DeserializationEvent event = new DeserializationEvent();
+        event.begin();
+        long startTime = System.nanoTime();
+        try {
+            Type type = typeParam.getDescribingType();
+            Object result;
+            if (decodedValueCache != null && DecodedValueCache.isCacheable(type)) {
+                // The value is only decoded on a miss, which clears the flag.
+                event.cached = true;
+                result = decodedValueCache.get(payload.getByteArray(), payload.size(), type, () -> {
+                    event.cached = false;
+                    return deserialize(schema, enumTables, stringCache, profiler, payload, type);
+                });
+                if (metrics != null) {
+                    metrics.recordDecodedValueCacheLookup(event.cached);
+                }
+            } else {
+                result = deserialize(schema, enumTables, stringCache, profiler, payload, type);
+            }
+            event.complete(schema, payload.size());
+            if (metrics != null) {
+                metrics.recordDeserialization(System.nanoTime() - startTime, payload.size());
+            }
+            return result;
+        } catch (Exception e) {
+            if (metrics != null) {
+                metrics.recordDeserializationError(e);
+            }
+            return createError(DESERIALIZATION_ERROR, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Object fromAvroInto(BObject schemaObject, BArray payload, BMap<?, ?> target) {
+        Schema schema = (Schema) schemaObject.getNativeData(AVRO_SCHEMA);
+        InPlaceReader inPlaceReader = (InPlaceReader) schemaObject.getNativeData(IN_PLACE_READER);
+        SchemaMetrics metrics = (SchemaMetrics) schemaObject.getNativeData(METRICS);
+        DeserializationEvent event = new DeserializationEvent();
+        event.begin();
+        long startTime = System.nanoTime();
+        try {
+            inPlaceReader.read((BMap<BString, Object>) target, payload.getByteArray(), payload.size());
+            event.complete(schema, payload.size());
+            if (metrics != null) {
+                metrics.recordDeserialization(System.nanoTime() - startTime, payload.size());
+            }
+            return null;
+        } catch (Exception e) {
+            if (metrics != null) {
+                metrics.recordDeserializationError(e);
+            }
+            return createError(DESERIALIZATION_ERROR, e);
+        }
+    }
+
+    public static Object fromAvroSegments(BObject schemaObject, BArray segments, BTypedesc typeParam) {
+        Schema schema = (Schema) schemaObject.getNativeData(AVRO_SCHEMA);
+        EnumTables enumTables = (EnumTables) schemaObject.getNativeData(ENUM_TABLES);
+        StringCache stringCache = (StringCache) schemaObject.getNativeData(STRING_CACHE);
+        SchemaMetrics metrics = (SchemaMetrics) schemaObject.getNativeData(METRICS);
+        FieldProfiler profiler = (FieldProfiler) schemaObject.getNativeData(FIELD_PROFILER);
+        DeserializationEvent event = new DeserializationEvent();
+        event.begin();
+        long startTime = System.nanoTime();
+        try {
+            BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(new SegmentedInputStream(segments), null);
+            Object result = deserialize(schema, enumTables, stringCache, profiler, decoder,
+                    typeParam.getDescribingType());
+            int payloadSize = 0;
+            for (int i = 0; i < segments.size(); i++) {
+                payloadSize += ((BArray) segments.get(i)).size();
+            }
+            event.complete(schema, payloadSize);
+            if (metrics != null) {
+                metrics.recordDeserialization(System.nanoTime() - startTime, payloadSize);
+            }
+            return result;
+        } catch (Exception e) {
+            if (metrics != null) {
+                metrics.recordDeserializationError(e);
+            }
+            return createError(DESERIALIZATION_ERROR, e);
+        }
+    }
+
+    public static Object deserialize(Schema schema, EnumTables enumTables, StringCache stringCache, BArray payload,
+                                     Type type) throws Exception {
+        return deserialize(schema, enumTables, stringCache, null, payload, type);
+    }
+
+    public static Object deserialize(Schema schema, EnumTables enumTables, StringCache stringCache,
+                                     FieldProfiler profiler, BArray payload, Type type) throws Exception {
+        DatumReader<Object> datumReader = new BallerinaDatumReader(schema, enumTables, stringCache, profiler);
         BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(payload.getBytes(), null);
+        Object data = datumReader.read(null, decoder);
+        DeserializeVisitor deserializeVisitor = new DeserializeVisitor();
+        Deserializer deserializer = DeserializeFactory.generateDeserializer(schema, type);
+        return Objects.requireNonNull(deserializer).accept(deserializeVisitor, data);
+    }
+
+    private static Object deserialize(Schema schema, EnumTables enumTables, StringCache stringCache,
+                                      FieldProfiler profiler, BinaryDecoder decoder, Type type) throws Exception {
+        DatumReader<Object> datumReader = new BallerinaDatumReader(schema, enumTables, stringCache, profiler);
+        Object data = datumReader.read(null, decoder);
+        DeserializeVisitor deserializeVisitor = new DeserializeVisitor();
+        Deserializer deserializer = DeserializeFactory.generateDeserializer(schema, type);
+        return Objects.requireNonNull(deserializer).accept(deserializeVisitor, data);
+    }
+
+    public static Object compare(BObject schemaObject, BArray first, BArray second) {
+        Schema schema = (Schema) schemaObject.getNativeData(AVRO_SCHEMA);
         try {
-            Object data = datumReader.read(payload, decoder);
-            DeserializeVisitor deserializeVisitor = new DeserializeVisitor();
-            Deserializer deserializer = DeserializeFactory.generateDeserializer(schema, typeParam.getDescribingType());
-            return Objects.requireNonNull(deserializer).accept(deserializeVisitor, data);
+            return (long) compare(schema, first, second);
+        } catch (Exception e) {
+            return createError(COMPARISON_ERROR, e);
+        }
+    }
+
+    public static Object sort(BObject schemaObject, BArray payloads) {
+        Schema schema = (Schema) schemaObject.getNativeData(AVRO_SCHEMA);
+        BArray[] values = new BArray[payloads.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (BArray) payloads.get(i);
+        }
+        try {
+            Arrays.sort(values, (first, second) -> compare(schema, first, second));
+            return ValueCreator.createArrayValue(values, BYTE_ARRAYS_TYPE);
+        } catch (Exception e) {
+            return createError(COMPARISON_ERROR, e);
+        }
+    }
+
+    private static int compare(Schema schema, BArray first, BArray second) {
+        // Compares the backing arrays in place, honouring the sort order of the record fields.
+        return BinaryData.compare(first.getByteArray(), 0, first.size(), second.getByteArray(), 0, second.size(),
+                schema);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Object extract(BObject schemaObject, BArray payload, BString path, BTypedesc typeParam) {
+        Schema schema = (Schema) schemaObject.getNativeData(AVRO_SCHEMA);
+        EnumTables enumTables = (EnumTables) schemaObject.getNativeData(ENUM_TABLES);
+        StringCache stringCache = (StringCache) schemaObject.getNativeData(STRING_CACHE);
+        Map<String, FieldPath> fieldPaths = (Map<String, FieldPath>) schemaObject.getNativeData(FIELD_PATHS);
+        try {
+            FieldPath fieldPath = fieldPaths.get(path.getValue());
+            if (fieldPath == null) {
+                fieldPath = FieldPath.compile(schema, path.getValue(), enumTables, stringCache);
+                // Only resolved paths are cached, up to a fixed count, as the paths are chosen by the caller.
+                if (fieldPaths.size() < MAX_FIELD_PATHS) {
+                    fieldPaths.putIfAbsent(path.getValue(), fieldPath);
+                }
+            }
+            // The backing array is read in place, as only a part of the message is decoded.
+            return fieldPath.extract(payload.getByteArray(), payload.size(), typeParam.getDescribingType());
         } catch (Exception e) {
             return createError(DESERIALIZATION_ERROR, e);
         }
     }
+
+    public static Object warmup(BObject schemaObject, BArray targetTypes) {
+        Schema schema = (Schema) schemaObject.getNativeData(AVRO_SCHEMA);
+        EnumTables enumTables = (EnumTables) schemaObject.getNativeData(ENUM_TABLES);
+        StringCache stringCache = (StringCache) schemaObject.getNativeData(STRING_CACHE);
+        CompiledSerializer compiledSerializer = (CompiledSerializer) schemaObject.getNativeData(COMPILED_SERIALIZER);
+        EncodedSize encodedSize = (EncodedSize) schemaObject.getNativeData(ENCODED_SIZE);
+        byte[] message;
+        try {
+            message = SyntheticMessage.of(schema);
+        } catch (Exception e) {
+            return createError(SERIALIZATION_ERROR, e);
+        }
+        BArray payload = ValueCreator.createArrayValue(message);
+        // The round trips bypass the metrics, the size estimator, the profiler and the value caches, so the synthetic
+        // values do not show up in them.
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            compare(schema, payload, payload);
+            for (int j = 0; j < targetTypes.size(); j++) {
+                Type type = ((BTypedesc) targetTypes.get(j)).getDescribingType();
+                Object value;
+                try {
+                    value = deserialize(schema, enumTables, stringCache, null, payload, type);
+                } catch (Exception e) {
+                    return createError(DESERIALIZATION_ERROR, e);
+                }
+                try {
+                    serialize(schema, enumTables, value, EncodingOptions.DEFAULT, null, null, compiledSerializer);
+                    encodedSize.of(schema, value);
+                } catch (Exception e) {
+                    return createError(SERIALIZATION_ERROR, e);
+                }
+            }
+        }
+        return null;
+    }
+
+    public static Object getDecodedValueCacheStats(BObject schemaObject) {
+        DecodedValueCache decodedValueCache = (DecodedValueCache) schemaObject.getNativeData(DECODED_VALUE_CACHE);
+        return decodedValueCache == null ? null : decodedValueCache.getStats();
+    }
+
+    public static BArray getFieldProfiles(BObject schemaObject) {
+        FieldProfiler profiler = (FieldProfiler) schemaObject.getNativeData(FIELD_PROFILER);
+        return (profiler == null ? new FieldProfiler() : profiler).toBallerina();
+    }
+
+    public static void resetFieldProfiles(BObject schemaObject) {
+        FieldProfiler profiler = (FieldProfiler) schemaObject.getNativeData(FIELD_PROFILER);
+        if (profiler != null) {
+            profiler.reset();
+        }
+    }
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import org.apache.avro.AvroTypeException;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pre-built symbol tables of an Avro enum schema. Each symbol is resolved once to a shared {@link Symbol}, which
+ * carries its ordinal for encoding and a cached {@link BString} for decoding. The tables of a schema are held by
+ * {@link EnumTables}.
+ *
+ * @since 1.2.1
+ */
+public final class EnumSymbols {
+
+    private final Schema schema;
+    private final Map<String, Symbol> bySymbol;
+    private final Symbol[] byOrdinal;
+
+    EnumSymbols(Schema schema) {
+        List<String> symbols = schema.getEnumSymbols();
+        this.schema = schema;
+        this.bySymbol = new HashMap<>(symbols.size() * 2);
+        this.byOrdinal = new Symbol[symbols.size()];
+        for (int ordinal = 0; ordinal < symbols.size(); ordinal++) {
+            Symbol symbol = new Symbol(schema, symbols.get(ordinal), ordinal);
+            bySymbol.put(symbols.get(ordinal), symbol);
+            byOrdinal[ordinal] = symbol;
+        }
+    }
+
+    public Symbol get(Object value) {
+        String name = value instanceof BString bString ? bString.getValue() : value.toString();
+        Symbol symbol = bySymbol.get(name);
+        if (symbol == null) {
+            throw new AvroTypeException("Not an enum symbol: " + name + " for schema: " + schema.getFullName());
+        }
+        return symbol;
+    }
+
+    public Symbol get(int ordinal) {
+        return byOrdinal[ordinal];
+    }
+
+    /**
+     * An enum symbol of a specific schema, shared across all the values which refer to it.
+     */
+    public static final class Symbol extends GenericData.EnumSymbol {
+
+        private final int ordinal;
+        private final BString value;
+
+        private Symbol(Schema schema, String symbol, int ordinal) {
+            super(schema, symbol);
+            this.ordinal = ordinal;
+            this.value = StringUtils.fromString(symbol);
+        }
+
+        public int getOrdinal() {
+            return ordinal;
+        }
+
+        public BString getValue() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.lib.avro;
+
+import org.apache.avro.Schema;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@link EnumSymbols} of the enum schemas of an {@code avro:Schema}. The tables are built on first use, and are
+ * kept in the native data of the schema object, so they are released with it.
+ *
+ * @since 1.2.1
+ */
+public final class EnumTables {
+
+    private final Map<Schema, EnumSymbols> tables = new ConcurrentHashMap<>();
+
+    public EnumSymbols of(Schema schema) {
+        EnumSymbols enumSymbols = tables.get(schema);
+        if (enumSymbols == null) {
+            enumSymbols = tables.computeIfAbsent(schema, EnumSymbols::new);
+        }
+        return enumSymbols;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro;
+
+import io.ballerina.lib.avro.deserialize.DatumStreamReader;
+import io.ballerina.lib.avro.deserialize.StringCache;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BTypedesc;
+import org.apache.avro.Schema;
+
+import static io.ballerina.lib.avro.Utils.AVRO_SCHEMA;
+import static io.ballerina.lib.avro.Utils.DESERIALIZATION_ERROR;
+import static io.ballerina.lib.avro.Utils.ENUM_TABLES;
+import static io.ballerina.lib.avro.Utils.STREAM_READER;
+import static io.ballerina.lib.avro.Utils.STRING_CACHE;
+import static io.ballerina.lib.avro.Utils.createError;
+
+/**
+ * Native implementation of the `avro:Reader` class.
+ *
+ * @since 1.2.1
+ */
+public final class Reader {
+
+    private Reader() {}
+
+    public static void initReader(BObject readerObject, BObject schemaObject, long bufferSize) {
+        Schema schema = (Schema) schemaObject.getNativeData(AVRO_SCHEMA);
+        EnumTables enumTables = (EnumTables) schemaObject.getNativeData(ENUM_TABLES);
+        StringCache stringCache = (StringCache) schemaObject.getNativeData(STRING_CACHE);
+        readerObject.addNativeData(STREAM_READER,
+                new DatumStreamReader(schema, enumTables, stringCache, (int) bufferSize));
+    }
+
+    public static void feed(BObject readerObject, BArray bytes) {
+        DatumStreamReader reader = (DatumStreamReader) readerObject.getNativeData(STREAM_READER);
+        reader.feed(bytes.getByteArray(), bytes.size());
+    }
+
+    public static Object hasCompleteValue(BObject readerObject) {
+        DatumStreamReader reader = (DatumStreamReader) readerObject.getNativeData(STREAM_READER);
+        try {
+            return reader.hasNext();
+        } catch (Exception e) {
+            return createError(DESERIALIZATION_ERROR, e);
+        }
+    }
+
+    public static boolean hasPendingBytes(BObject readerObject) {
+        return ((DatumStreamReader) readerObject.getNativeData(STREAM_READER)).hasPendingBytes();
+    }
+
+    public static Object next(BObject readerObject, BTypedesc typeParam) {
+        DatumStreamReader reader = (DatumStreamReader) readerObject.getNativeData(STREAM_READER);
+        try {
+            return reader.next(typeParam.getDescribingType());
+        } catch (Exception e) {
+            return createError(DESERIALIZATION_ERROR, e);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro;
+
+import io.ballerina.lib.avro.sort.ExternalSorter;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import org.apache.avro.Schema;
+
+import java.nio.file.Path;
+
+import static io.ballerina.lib.avro.Utils.AVRO_SCHEMA;
+import static io.ballerina.lib.avro.Utils.EXTERNAL_SORTER;
+import static io.ballerina.lib.avro.Utils.RUN_SIZE;
+import static io.ballerina.lib.avro.Utils.SORT_ERROR;
+import static io.ballerina.lib.avro.Utils.TEMP_DIRECTORY;
+import static io.ballerina.lib.avro.Utils.createError;
+
+/**
+ * Native implementation of the `avro:Sorter` class.
+ *
+ * @since 1.2.1
+ */
+public final class Sorter {
+
+    private Sorter() {}
+
+    public static void initSorter(BObject sorterObject, BObject schemaObject, BMap<BString, Object> config) {
+        Schema schema = (Schema) schemaObject.getNativeData(AVRO_SCHEMA);
+        long runSize = config.getIntValue(RUN_SIZE);
+        Object tempDirectory = config.get(TEMP_DIRECTORY);
+        Path tempPath = tempDirectory == null ? null : Path.of(((BString) tempDirectory).getValue());
+        sorterObject.addNativeData(EXTERNAL_SORTER, new ExternalSorter(schema, runSize, tempPath));
+    }
+
+    public static Object add(BObject sorterObject, BArray data) {
+        ExternalSorter sorter = (ExternalSorter) sorterObject.getNativeData(EXTERNAL_SORTER);
+        try {
+            sorter.add(data.getBytes());
+            return null;
+        } catch (Exception e) {
+            return createError(SORT_ERROR, e);
+        }
+    }
+
+    public static Object addFile(BObject sorterObject, BString path) {
+        ExternalSorter sorter = (ExternalSorter) sorterObject.getNativeData(EXTERNAL_SORTER);
+        try {
+            sorter.addContainerFile(Path.of(path.getValue()));
+            return null;
+        } catch (Exception e) {
+            return createError(SORT_ERROR, e);
+        }
+    }
+
+    public static Object sort(BObject sorterObject, BString path) {
+        ExternalSorter sorter = (ExternalSorter) sorterObject.getNativeData(EXTERNAL_SORTER);
+        try {
+            sorter.sortTo(Path.of(path.getValue()));
+            return null;
+        } catch (Exception e) {
+            return createError(SORT_ERROR, e);
+        }
+    }
+
+    public static Object close(BObject sorterObject) {
+        ExternalSorter sorter = (ExternalSorter) sorterObject.getNativeData(EXTERNAL_SORTER);
+        try {
+            sorter.close();
+            return null;
+        } catch (Exception e) {
+            return createError(SORT_ERROR, e);
+        }
+    }
+}
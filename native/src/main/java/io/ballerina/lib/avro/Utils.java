@@ -18,13 +18,21 @@
 
 package io.ballerina.lib.avro;
 
+import io.ballerina.lib.avro.serialize.EncodingOptions;
 import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
 import io.ballerina.runtime.api.types.IntersectionType;
+import io.ballerina.runtime.api.types.PredefinedTypes;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.types.TypeTags;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
 
 import static io.ballerina.lib.avro.ModuleUtils.getModule;
 
@@ -34,15 +42,67 @@ public final class Utils {
     }
 
     public static final String AVRO_SCHEMA = "avroSchema";
+    public static final String STRING_CACHE = "stringCache";
+    public static final String METRICS = "metrics";
+    public static final String FIELD_PROFILER = "fieldProfiler";
+    public static final String SIZE_ESTIMATOR = "sizeEstimator";
+    public static final String FIELD_PATHS = "fieldPaths";
+    public static final String ENCODED_VALUE_CACHE = "encodedValueCache";
+    public static final String DECODED_VALUE_CACHE = "decodedValueCache";
+    public static final String STREAM_WRITER = "streamWriter";
+    public static final String STREAM_READER = "streamReader";
+    public static final String EXTERNAL_SORTER = "externalSorter";
+    public static final String COMPILED_SERIALIZER = "compiledSerializer";
+    public static final String CANONICAL_SERIALIZER = "canonicalSerializer";
+    public static final String ENUM_TABLES = "enumTables";
+    public static final String ENCODED_SIZE = "encodedSize";
+    public static final String IN_PLACE_READER = "inPlaceReader";
+    public static final BString BLOCK_SIZE = StringUtils.fromString("blockSize");
+    public static final BString CANONICAL = StringUtils.fromString("canonical");
+    public static final BString BUFFER_SIZE = StringUtils.fromString("bufferSize");
+    public static final BString RUN_SIZE = StringUtils.fromString("runSize");
+    public static final BString TEMP_DIRECTORY = StringUtils.fromString("tempDirectory");
+    public static final BString PROFILE_FIELDS = StringUtils.fromString("profileFields");
+    public static final BString COMPILE_SERIALIZER = StringUtils.fromString("compileSerializer");
+    public static final BString DECODED_VALUE_CACHE_SIZE = StringUtils.fromString("decodedValueCacheSize");
+    public static final BString ENCODED_VALUE_CACHE_SIZE = StringUtils.fromString("encodedValueCacheSize");
+    public static final BString STRING_CACHE_SIZE = StringUtils.fromString("stringCacheSize");
     public static final String ERROR_TYPE = "Error";
     public static final String SERIALIZATION_ERROR = "Avro serialization error";
     public static final String DESERIALIZATION_ERROR = "Avro deserialization error";
+    public static final String COMPARISON_ERROR = "Avro comparison error";
+    public static final String SORT_ERROR = "Avro sort error";
+    public static final ArrayType BYTE_ARRAYS_TYPE =
+            TypeCreator.createArrayType(TypeCreator.createArrayType(PredefinedTypes.TYPE_BYTE));
 
     public static BError createError(String message, Throwable throwable) {
         BError cause = ErrorCreator.createError(throwable);
         return ErrorCreator.createError(getModule(), ERROR_TYPE, StringUtils.fromString(message), cause, null);
     }
 
+    public static BArray createSegments(byte[][] segments) {
+        BArray[] values = new BArray[segments.length];
+        for (int i = 0; i < segments.length; i++) {
+            values[i] = ValueCreator.createArrayValue(segments[i]);
+        }
+        return ValueCreator.createArrayValue(values, BYTE_ARRAYS_TYPE);
+    }
+
+    public static EncodingOptions getEncodingOptions(BMap<BString, Object> config) {
+        long blockSize = config.getIntValue(BLOCK_SIZE);
+        return new EncodingOptions((int) blockSize, config.getBooleanValue(CANONICAL));
+    }
+
+    public static BString toBString(Object value) {
+        if (value instanceof BString bString) {
+            return bString;
+        }
+        if (value instanceof EnumSymbols.Symbol symbol) {
+            return symbol.getValue();
+        }
+        return StringUtils.fromString(value.toString());
+    }
+
     public static Type getMutableType(Type dataType) {
         if (dataType.getTag() != TypeTags.INTERSECTION_TAG) {
             return dataType;
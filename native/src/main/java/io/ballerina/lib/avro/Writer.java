@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro;
+
+import io.ballerina.lib.avro.serialize.DatumStreamWriter;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import org.apache.avro.Schema;
+
+import static io.ballerina.lib.avro.Utils.AVRO_SCHEMA;
+import static io.ballerina.lib.avro.Utils.BUFFER_SIZE;
+import static io.ballerina.lib.avro.Utils.ENUM_TABLES;
+import static io.ballerina.lib.avro.Utils.SERIALIZATION_ERROR;
+import static io.ballerina.lib.avro.Utils.STREAM_WRITER;
+import static io.ballerina.lib.avro.Utils.createError;
+import static io.ballerina.lib.avro.Utils.getEncodingOptions;
+
+/**
+ * Native implementation of the `avro:Writer` class.
+ *
+ * @since 1.2.1
+ */
+public final class Writer {
+
+    private Writer() {}
+
+    public static void initWriter(BObject writerObject, BObject schemaObject, BMap<BString, Object> config) {
+        Schema schema = (Schema) schemaObject.getNativeData(AVRO_SCHEMA);
+        EnumTables enumTables = (EnumTables) schemaObject.getNativeData(ENUM_TABLES);
+        long bufferSize = config.getIntValue(BUFFER_SIZE);
+        DatumStreamWriter writer = new DatumStreamWriter(schema, enumTables, (int) bufferSize,
+                getEncodingOptions(config));
+        writerObject.addNativeData(STREAM_WRITER, writer);
+    }
+
+    public static Object writeValue(BObject writerObject, Object data) {
+        DatumStreamWriter writer = (DatumStreamWriter) writerObject.getNativeData(STREAM_WRITER);
+        try {
+            writer.write(data);
+            return (long) writer.size();
+        } catch (Exception e) {
+            return createError(SERIALIZATION_ERROR, e);
+        }
+    }
+
+    public static Object drain(BObject writerObject) {
+        DatumStreamWriter writer = (DatumStreamWriter) writerObject.getNativeData(STREAM_WRITER);
+        try {
+            return Utils.createSegments(writer.drain());
+        } catch (Exception e) {
+            return createError(SERIALIZATION_ERROR, e);
+        }
+    }
+
+    public static Object getBytes(BObject writerObject) {
+        DatumStreamWriter writer = (DatumStreamWriter) writerObject.getNativeData(STREAM_WRITER);
+        try {
+            return ValueCreator.createArrayValue(writer.peek());
+        } catch (Exception e) {
+            return createError(SERIALIZATION_ERROR, e);
+        }
+    }
+
+    public static Object reset(BObject writerObject) {
+        DatumStreamWriter writer = (DatumStreamWriter) writerObject.getNativeData(STREAM_WRITER);
+        try {
+            writer.reset();
+            return null;
+        } catch (Exception e) {
+            return createError(SERIALIZATION_ERROR, e);
+        }
+    }
+}
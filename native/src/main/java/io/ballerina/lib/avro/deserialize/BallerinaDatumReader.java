@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.deserialize;
+
+import io.ballerina.lib.avro.EnumSymbols;
+import io.ballerina.lib.avro.EnumTables;
+import io.ballerina.lib.avro.observability.FieldProfiler;
+import io.ballerina.runtime.api.values.BString;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.io.Decoder;
+import org.apache.avro.io.ResolvingDecoder;
+import org.apache.avro.util.Utf8;
+
+import java.io.IOException;
+
+/**
+ * A {@link GenericDatumReader} which decodes Avro strings and map keys straight from their UTF-8 bytes into
+ * {@link BString} values, optionally interning them through a {@link StringCache}. Enum values are resolved to the
+ * shared symbols of {@link EnumSymbols}. If a {@link FieldProfiler} is given, the time taken to read each field is
+ * recorded.
+ *
+ * @since 1.2.1
+ */
+public class BallerinaDatumReader extends GenericDatumReader<Object> {
+
+    private static final GenericData DATA = new GenericData();
+
+    static {
+        // The fast reader does not call back into the overridden read methods.
+        DATA.setFastReaderEnabled(false);
+    }
+
+    private final EnumTables enumTables;
+    private final StringCache stringCache;
+    private final FieldProfiler profiler;
+    private final Utf8 buffer = new Utf8();
+    private String path;
+
+    public BallerinaDatumReader(Schema schema, EnumTables enumTables, StringCache stringCache) {
+        this(schema, enumTables, stringCache, null);
+    }
+
+    public BallerinaDatumReader(Schema schema, EnumTables enumTables, StringCache stringCache,
+                                FieldProfiler profiler) {
+        super(schema, schema, DATA);
+        this.enumTables = enumTables;
+        this.stringCache = stringCache;
+        this.profiler = profiler;
+    }
+
+    @Override
+    protected void readField(Object record, Schema.Field field, Object oldDatum, ResolvingDecoder in, Object state)
+            throws IOException {
+        if (profiler == null) {
+            super.readField(record, field, oldDatum, in, state);
+            return;
+        }
+        String parentPath = path;
+        path = FieldProfiler.path(parentPath, field);
+        long startTime = System.nanoTime();
+        super.readField(record, field, oldDatum, in, state);
+        profiler.recordDecoding(path, System.nanoTime() - startTime);
+        path = parentPath;
+    }
+
+    @Override
+    protected Object readString(Object old, Schema expected, Decoder in) throws IOException {
+        return readBString(in);
+    }
+
+    @Override
+    protected Object readEnum(Schema expected, Decoder in) throws IOException {
+        return enumTables.of(expected).get(in.readEnum());
+    }
+
+    @Override
+    protected Object readMapKey(Object old, Schema expected, Decoder in) throws IOException {
+        return readBString(in);
+    }
+
+    private BString readBString(Decoder in) throws IOException {
+        Utf8 utf8 = in.readString(buffer);
+        if (stringCache == null) {
+            return StringCache.decode(utf8.getBytes(), utf8.getByteLength());
+        }
+        return stringCache.get(utf8.getBytes(), utf8.getByteLength());
+    }
+}
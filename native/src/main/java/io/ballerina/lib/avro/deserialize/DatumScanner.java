@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.lib.avro.deserialize;
+
+import org.apache.avro.Schema;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Finds the length of an encoded value in a buffer which is filled in chunks. The scan stops where the buffered bytes
+ * run out and resumes from there once more bytes arrive, so each byte of a value is scanned once, however many chunks
+ * the value spans.
+ *
+ * @since 1.2.1
+ */
+final class DatumScanner {
+
+    private static final int MAX_VARINT_LENGTH = 10;
+
+    private final Schema schema;
+    private final Deque<Frame> stack = new ArrayDeque<>();
+    private int scanned;
+    private boolean started;
+    // The value and the length of the last varint read by readVarint.
+    private long varint;
+    private int varintLength;
+
+    DatumScanner(Schema schema) {
+        this.schema = schema;
+    }
+
+    /**
+     * Continues the scan of the value which starts at the given offset.
+     *
+     * @param buffer the buffered bytes
+     * @param start the offset of the value
+     * @param end the end of the buffered bytes
+     * @return the length of the value, or -1 if the buffered bytes end before the value
+     * @throws IOException if the bytes are not a valid encoding of the schema, in which case the scan is abandoned
+     */
+    int scan(byte[] buffer, int start, int end) throws IOException {
+        try {
+            return resume(buffer, start, end);
+        } catch (IOException | RuntimeException e) {
+            reset();
+            throw e;
+        }
+    }
+
+    private int resume(byte[] buffer, int start, int end) throws IOException {
+        if (!started) {
+            stack.push(new Frame(schema));
+            started = true;
+        }
+        while (!stack.isEmpty()) {
+            Frame frame = stack.peek();
+            int offset = start + scanned;
+            switch (frame.schema.getType()) {
+                case RECORD -> {
+                    if (frame.index == frame.schema.getFields().size()) {
+                        stack.pop();
+                    } else {
+                        stack.push(new Frame(frame.schema.getFields().get(frame.index++).schema()));
+                    }
+                }
+                case UNION -> {
+                    if (!readVarint(buffer, offset, end)) {
+                        return -1;
+                    }
+                    if (varint < 0 || varint >= frame.schema.getTypes().size()) {
+                        throw new IOException("Malformed data. Union index is out of range: " + varint);
+                    }
+                    scanned += varintLength;
+                    stack.pop();
+                    stack.push(new Frame(frame.schema.getTypes().get((int) varint)));
+                }
+                case ARRAY, MAP -> {
+                    if (frame.remaining == 0) {
+                        if (!readBlockHeader(buffer, offset, end)) {
+                            return -1;
+                        }
+                        if (varint == 0) {
+                            stack.pop();
+                        } else {
+                            frame.remaining = Math.abs(varint);
+                        }
+                        scanned += varintLength;
+                    } else if (frame.schema.getType() == Schema.Type.MAP && !frame.keyScanned) {
+                        int length = bytesLength(buffer, offset, end);
+                        if (length < 0) {
+                            return -1;
+                        }
+                        scanned += length;
+                        frame.keyScanned = true;
+                    } else {
+                        frame.remaining--;
+                        frame.keyScanned = false;
+                        Schema.Type type = frame.schema.getType();
+                        stack.push(new Frame(type == Schema.Type.MAP
+                                ? frame.schema.getValueType() : frame.schema.getElementType()));
+                    }
+                }
+                default -> {
+                    int length = leafLength(frame.schema, buffer, offset, end);
+                    if (length < 0) {
+                        return -1;
+                    }
+                    scanned += length;
+                    stack.pop();
+                }
+            }
+        }
+        int length = scanned;
+        reset();
+        return length;
+    }
+
+    private void reset() {
+        stack.clear();
+        scanned = 0;
+        started = false;
+    }
+
+    private int leafLength(Schema leaf, byte[] buffer, int offset, int end) throws IOException {
+        return switch (leaf.getType()) {
+            case NULL -> 0;
+            case BOOLEAN -> available(1, offset, end);
+            case FLOAT -> available(Float.BYTES, offset, end);
+            case DOUBLE -> available(Double.BYTES, offset, end);
+            case FIXED -> available(leaf.getFixedSize(), offset, end);
+            case INT, LONG, ENUM -> readVarint(buffer, offset, end) ? varintLength : -1;
+            case STRING, BYTES -> bytesLength(buffer, offset, end);
+            default -> throw new IOException("Unexpected schema type: " + leaf.getType());
+        };
+    }
+
+    // The length of a length-prefixed string or byte sequence, including the prefix.
+    private int bytesLength(byte[] buffer, int offset, int end) throws IOException {
+        if (!readVarint(buffer, offset, end)) {
+            return -1;
+        }
+        if (varint < 0) {
+            throw new IOException("Malformed data. Length is negative: " + varint);
+        }
+        if (varint > end - offset - varintLength) {
+            return -1;
+        }
+        return varintLength + (int) varint;
+    }
+
+    // Reads the item count of a block and, for a negative count, the byte size which follows it.
+    private boolean readBlockHeader(byte[] buffer, int offset, int end) throws IOException {
+        if (!readVarint(buffer, offset, end)) {
+            return false;
+        }
+        if (varint >= 0) {
+            return true;
+        }
+        long count = varint;
+        int countLength = varintLength;
+        if (!readVarint(buffer, offset + countLength, end)) {
+            return false;
+        }
+        varint = count;
+        varintLength += countLength;
+        return true;
+    }
+
+    private boolean readVarint(byte[] buffer, int offset, int end) throws IOException {
+        long value = 0;
+        for (int i = 0; i < MAX_VARINT_LENGTH; i++) {
+            if (offset + i >= end) {
+                return false;
+            }
+            int b = buffer[offset + i] & 0xff;
+            value |= (long) (b & 0x7f) << (7 * i);
+            if ((b & 0x80) == 0) {
+                varint = (value >>> 1) ^ -(value & 1);
+                varintLength = i + 1;
+                return true;
+            }
+        }
+        throw new IOException("Invalid long encoding");
+    }
+
+    private static int available(int length, int offset, int end) {
+        return end - offset >= length ? length : -1;
+    }
+
+    private static final class Frame {
+
+        private final Schema schema;
+        private int index;
+        private long remaining;
+        private boolean keyScanned;
+
+        private Frame(Schema schema) {
+            this.schema = schema;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.deserialize;
+
+import io.ballerina.lib.avro.EnumTables;
+import io.ballerina.lib.avro.deserialize.visitor.DeserializeVisitor;
+import io.ballerina.runtime.api.types.Type;
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.DecoderFactory;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Decodes a sequence of values written back-to-back, from bytes which are fed in arbitrary chunks.
+ * Before a value is decoded, it is scanned over the buffered bytes to find out whether it is complete, so a value
+ * which spans several chunks is only decoded once all of its bytes have arrived. The scan resumes where it stopped
+ * when more bytes are fed, so the bytes of a value are scanned once.
+ *
+ * @since 1.2.1
+ */
+public final class DatumStreamReader {
+
+    private final Schema schema;
+    private final DatumReader<Object> datumReader;
+    private final DatumScanner scanner;
+    private final DeserializeVisitor deserializeVisitor = new DeserializeVisitor();
+    private byte[] buffer;
+    private int position;
+    private int limit;
+    private int datumLength = -1;
+    private BinaryDecoder decoder;
+    private Type deserializerType;
+    private Deserializer deserializer;
+
+    public DatumStreamReader(Schema schema, EnumTables enumTables, StringCache stringCache, int bufferSize) {
+        this.schema = schema;
+        this.datumReader = new BallerinaDatumReader(schema, enumTables, stringCache);
+        this.scanner = new DatumScanner(schema);
+        this.buffer = new byte[bufferSize];
+    }
+
+    public synchronized void feed(byte[] bytes, int length) {
+        if (limit + length > buffer.length) {
+            int pending = limit - position;
+            byte[] target = pending + length > buffer.length
+                    ? new byte[Math.max(buffer.length * 2, pending + length)] : buffer;
+            System.arraycopy(buffer, position, target, 0, pending);
+            buffer = target;
+            position = 0;
+            limit = pending;
+        }
+        System.arraycopy(bytes, 0, buffer, limit, length);
+        limit += length;
+    }
+
+    public synchronized boolean hasPendingBytes() {
+        return limit > position;
+    }
+
+    /**
+     * Returns whether the buffered bytes hold the next value completely.
+     *
+     * @return true if the next value can be decoded
+     * @throws IOException if the buffered bytes are not a valid encoding of the schema
+     */
+    public synchronized boolean hasNext() throws IOException {
+        if (datumLength >= 0) {
+            return true;
+        }
+        if (position == limit) {
+            return false;
+        }
+        datumLength = scanner.scan(buffer, position, limit);
+        return datumLength >= 0;
+    }
+
+    public synchronized Object next(Type type) throws Exception {
+        if (!hasNext()) {
+            throw new EOFException("The next value is not buffered completely");
+        }
+        decoder = DecoderFactory.get().binaryDecoder(buffer, position, datumLength, decoder);
+        Object data = datumReader.read(null, decoder);
+        position += datumLength;
+        datumLength = -1;
+        if (type != deserializerType) {
+            deserializer = Objects.requireNonNull(DeserializeFactory.generateDeserializer(schema, type));
+            deserializerType = type;
+        }
+        return deserializer.accept(deserializeVisitor, data);
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.deserialize;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import static io.ballerina.lib.avro.ModuleUtils.getModule;
+
+/**
+ * A least recently used cache of the values decoded from payloads, keyed by the content of the payload and the
+ * target type. Only immutable values are cached, so a value can be shared by all the callers which decode the same
+ * payload. The cache is bounded by the total weight of its entries, which is the size of the payload plus an
+ * estimate of the memory held by the decoded value.
+ *
+ * @since 1.2.1
+ */
+public final class DecodedValueCache {
+
+    private static final String DECODED_VALUE_CACHE_STATS = "DecodedValueCacheStats";
+    private static final Object NIL = new Object();
+    // Rough sizes of the objects of a decoded value on a 64-bit JVM.
+    private static final int OBJECT_SIZE = 16;
+    private static final int REFERENCE_SIZE = 8;
+    private static final int MAP_ENTRY_SIZE = 48;
+
+    private final long maxBytes;
+    private final LinkedHashMap<Key, Object> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private long bytes;
+
+    public DecodedValueCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public static boolean isCacheable(Type type) {
+        return type.isReadOnly();
+    }
+
+    /**
+     * Returns the value decoded from the given payload for the given type.
+     *
+     * @param payload the array holding the payload
+     * @param length the length of the payload
+     * @param type the target type
+     * @param decoder decodes the payload if it is not cached
+     * @return the decoded value
+     * @throws Exception if the payload fails to decode
+     */
+    public Object get(byte[] payload, int length, Type type, PayloadDecoder decoder) throws Exception {
+        Key key = new Key(payload, length, type);
+        Object value;
+        synchronized (this) {
+            value = entries.get(key);
+        }
+        if (value != null) {
+            hits.increment();
+            return value == NIL ? null : value;
+        }
+        misses.increment();
+        value = decoder.decode();
+        if (length <= maxBytes) {
+            long weight = length + estimateSize(value);
+            if (weight <= maxBytes) {
+                // The stored key owns a copy of the payload, and reuses the hash computed for the lookup.
+                put(new Key(Arrays.copyOf(payload, length), key, weight), value == null ? NIL : value);
+            }
+        }
+        return value;
+    }
+
+    private synchronized void put(Key key, Object value) {
+        if (entries.put(key, value) == null) {
+            bytes += key.weight;
+        }
+        Iterator<Key> iterator = entries.keySet().iterator();
+        while (bytes > maxBytes) {
+            bytes -= iterator.next().weight;
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Estimates the memory held by a decoded value, walking its maps and arrays.
+     *
+     * @param value the decoded value
+     * @return the estimated size in bytes
+     */
+    private static long estimateSize(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof BMap<?, ?> map) {
+            long size = 4 * OBJECT_SIZE;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                size += MAP_ENTRY_SIZE + estimateSize(entry.getKey()) + estimateSize(entry.getValue());
+            }
+            return size;
+        }
+        if (value instanceof BArray array) {
+            int length = array.size();
+            long size = 2 * OBJECT_SIZE;
+            switch (TypeUtils.getImpliedType(array.getElementType()).getTag()) {
+                case TypeTags.BYTE_TAG, TypeTags.BOOLEAN_TAG -> size += length;
+                case TypeTags.INT_TAG, TypeTags.FLOAT_TAG -> size += 8L * length;
+                default -> {
+                    for (int i = 0; i < length; i++) {
+                        size += REFERENCE_SIZE + estimateSize(array.get(i));
+                    }
+                }
+            }
+            return size;
+        }
+        if (value instanceof BString string) {
+            return 2 * OBJECT_SIZE + 2L * string.length();
+        }
+        if (value instanceof BDecimal) {
+            return 4 * OBJECT_SIZE;
+        }
+        return OBJECT_SIZE;
+    }
+
+    public BMap<BString, Object> getStats() {
+        Map<String, Object> values = new HashMap<>();
+        values.put("hits", hits.sum());
+        values.put("misses", misses.sum());
+        synchronized (this) {
+            values.put("entries", (long) entries.size());
+            values.put("bytes", bytes);
+        }
+        return ValueCreator.createRecordValue(getModule(), DECODED_VALUE_CACHE_STATS, values);
+    }
+
+    /**
+     * Decodes a payload which is not cached.
+     */
+    @FunctionalInterface
+    public interface PayloadDecoder {
+
+        Object decode() throws Exception;
+    }
+
+    private static final class Key {
+
+        private final byte[] payload;
+        private final int length;
+        private final Type type;
+        private final int hash;
+        private final long weight;
+
+        private Key(byte[] payload, int length, Type type) {
+            this.payload = payload;
+            this.length = length;
+            this.type = type;
+            int result = System.identityHashCode(type);
+            for (int i = 0; i < length; i++) {
+                result = 31 * result + payload[i];
+            }
+            this.hash = result;
+            this.weight = length;
+        }
+
+        private Key(byte[] payload, Key key, long weight) {
+            this.payload = payload;
+            this.length = key.length;
+            this.type = key.type;
+            this.hash = key.hash;
+            this.weight = weight;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            return object instanceof Key key && key.hash == hash && key.type == type
+                    && Arrays.equals(key.payload, 0, key.length, payload, 0, length);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.deserialize;
+
+import io.ballerina.lib.avro.EnumTables;
+import io.ballerina.lib.avro.deserialize.visitor.DeserializeVisitor;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.utils.ValueUtils;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.Decoder;
+import org.apache.avro.io.DecoderFactory;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A plan to read the value of a field, given by its dot-separated path from the root record, from an encoded message.
+ * The plan is compiled once from the schema. It skips the fields preceding the field at each level without
+ * decoding them, follows the branches of the unions on the path, and decodes only the value of the field.
+ *
+ * @since 1.2.1
+ */
+public final class FieldPath {
+
+    private final Step root;
+
+    private FieldPath(Step root) {
+        this.root = root;
+    }
+
+    public static FieldPath compile(Schema schema, String path, EnumTables enumTables, StringCache stringCache) {
+        Step root = compile(schema, path.split("\\.", -1), 0, path, enumTables, stringCache);
+        if (root == null) {
+            throw new IllegalArgumentException("The field '" + path + "' is not defined in the schema");
+        }
+        return new FieldPath(root);
+    }
+
+    private static Step compile(Schema schema, String[] names, int index, String path, EnumTables enumTables,
+                                StringCache stringCache) {
+        if (schema.getType() == Schema.Type.UNION) {
+            List<Schema> types = schema.getTypes();
+            Step[] branches = new Step[types.size()];
+            boolean defined = false;
+            for (int i = 0; i < branches.length; i++) {
+                Schema branch = types.get(i);
+                if (branch.getType() == Schema.Type.NULL) {
+                    branches[i] = new NullStep();
+                    continue;
+                }
+                branches[i] = compile(branch, names, index, path, enumTables, stringCache);
+                if (branches[i] == null) {
+                    branches[i] = new MissingStep(path);
+                } else {
+                    defined = true;
+                }
+            }
+            return defined ? new UnionStep(branches) : null;
+        }
+        if (index == names.length) {
+            return new ValueStep(schema, enumTables, stringCache);
+        }
+        if (schema.getType() != Schema.Type.RECORD) {
+            return null;
+        }
+        Schema.Field field = schema.getField(names[index]);
+        if (field == null) {
+            return null;
+        }
+        Step next = compile(field.schema(), names, index + 1, path, enumTables, stringCache);
+        if (next == null) {
+            return null;
+        }
+        Schema[] skipped = schema.getFields().subList(0, field.pos()).stream()
+                .map(Schema.Field::schema).toArray(Schema[]::new);
+        return new RecordStep(skipped, next);
+    }
+
+    /**
+     * Reads the value of the field from the encoded message.
+     *
+     * @param payload the encoded message
+     * @param length the length of the encoded message
+     * @param type the type to deserialize the value to
+     * @return the value of the field, or nil if a record on the path is nil
+     * @throws Exception if the message does not hold the field or the value does not match the type
+     */
+    public Object extract(byte[] payload, int length, Type type) throws Exception {
+        BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(payload, 0, length, null);
+        return root.extract(decoder, type);
+    }
+
+    private interface Step {
+
+        Object extract(Decoder decoder, Type type) throws Exception;
+    }
+
+    private record RecordStep(Schema[] skipped, Step next) implements Step {
+
+        @Override
+        public Object extract(Decoder decoder, Type type) throws Exception {
+            for (Schema schema : skipped) {
+                GenericDatumReader.skip(schema, decoder);
+            }
+            return next.extract(decoder, type);
+        }
+    }
+
+    private record UnionStep(Step[] branches) implements Step {
+
+        @Override
+        public Object extract(Decoder decoder, Type type) throws Exception {
+            return branches[decoder.readIndex()].extract(decoder, type);
+        }
+    }
+
+    private record NullStep() implements Step {
+
+        @Override
+        public Object extract(Decoder decoder, Type type) {
+            // A nil record on the path makes the field nil, which fails if the type does not allow it.
+            return ValueUtils.convert(null, type);
+        }
+    }
+
+    private record MissingStep(String path) implements Step {
+
+        @Override
+        public Object extract(Decoder decoder, Type type) {
+            throw new IllegalStateException("The field '" + path + "' is not present in the message");
+        }
+    }
+
+    private static final class ValueStep implements Step {
+
+        private static final DeserializeVisitor DESERIALIZE_VISITOR = new DeserializeVisitor();
+
+        private final Schema schema;
+        // The datum reader reuses its string buffer, so each thread reads with its own reader.
+        private final ThreadLocal<BallerinaDatumReader> datumReader;
+
+        private ValueStep(Schema schema, EnumTables enumTables, StringCache stringCache) {
+            this.schema = schema;
+            this.datumReader = ThreadLocal.withInitial(() -> new BallerinaDatumReader(schema, enumTables, stringCache));
+        }
+
+        @Override
+        public Object extract(Decoder decoder, Type type) throws Exception {
+            Object data = datumReader.get().read(null, decoder);
+            if (data instanceof Integer value) {
+                data = value.longValue();
+            }
+            if (TypeUtils.getImpliedType(type).getTag() != TypeTags.UNION_TAG) {
+                return deserialize(data, type);
+            }
+            // The deserializers expect a single type, so a value of a union type is converted after deserializing.
+            return ValueUtils.convert(deserialize(data, PredefinedTypes.TYPE_ANYDATA), type);
+        }
+
+        private Object deserialize(Object data, Type type) throws Exception {
+            Deserializer deserializer = DeserializeFactory.generateDeserializer(schema, type);
+            return Objects.requireNonNull(deserializer).accept(DESERIALIZE_VISITOR, data);
+        }
+    }
+}
@@ -0,0 +1,367 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.deserialize;
+
+import io.ballerina.lib.avro.EnumSymbols;
+import io.ballerina.lib.avro.EnumTables;
+import io.ballerina.lib.avro.deserialize.visitor.DeserializeVisitor;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.utils.ValueUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BRefValue;
+import io.ballerina.runtime.api.values.BString;
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.Decoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.util.Utf8;
+
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Decodes a message straight into an existing mutable record. The records, maps and arrays that the target already
+ * holds are written in place as the message is read, arrays are truncated or grown to the decoded length, and map
+ * entries and record fields that are not in the message are removed. Primitive values of the type of the target are
+ * decoded directly; only the values that have no container to be written into, or whose type differs from the Avro
+ * type, are decoded into new values through the {@link DeserializeVisitor}.
+ *
+ * @since 1.2.1
+ */
+public final class InPlaceReader {
+
+    private static final DeserializeVisitor DESERIALIZE_VISITOR = new DeserializeVisitor();
+
+    private final Schema schema;
+    private final EnumTables enumTables;
+    private final StringCache stringCache;
+    // The string buffer and the datum readers of a session are reused across messages. A read takes the idle session
+    // and puts it back when done, so concurrent reads create sessions of their own instead of sharing one.
+    private final AtomicReference<Session> idleSession = new AtomicReference<>();
+
+    public InPlaceReader(Schema schema, EnumTables enumTables, StringCache stringCache) {
+        this.schema = schema;
+        this.enumTables = enumTables;
+        this.stringCache = stringCache;
+    }
+
+    /**
+     * Decodes the message into the given record.
+     *
+     * @param target the mutable record to be overwritten
+     * @param payload the encoded message
+     * @param length the length of the encoded message
+     * @throws Exception if the record is immutable or the message cannot be decoded to the type of the record
+     */
+    public void read(BMap<BString, Object> target, byte[] payload, int length) throws Exception {
+        if (target.isFrozen()) {
+            throw new IllegalArgumentException("The target record is immutable");
+        }
+        BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(payload, 0, length, null);
+        Session session = idleSession.getAndSet(null);
+        if (session == null) {
+            session = new Session(enumTables, stringCache);
+        }
+        try {
+            if (session.read(schema, target.getType(), target, decoder) != target) {
+                throw new IllegalArgumentException("The message cannot be decoded into the target record");
+            }
+        } finally {
+            idleSession.compareAndSet(null, session);
+        }
+    }
+
+    private static boolean isReusable(Schema schema, Object current) {
+        if (!(current instanceof BRefValue value) || value.isFrozen()) {
+            return false;
+        }
+        Type type = TypeUtils.getImpliedType(value.getType());
+        return switch (schema.getType()) {
+            case RECORD -> type.getTag() == TypeTags.RECORD_TYPE_TAG;
+            case MAP -> type.getTag() == TypeTags.MAP_TAG;
+            // Closed arrays cannot be resized to the decoded length.
+            case ARRAY -> type.getTag() == TypeTags.ARRAY_TAG && ((ArrayType) type).getSize() == -1;
+            default -> false;
+        };
+    }
+
+    private static boolean isOfType(Object current, Type type) {
+        Type currentType = ((BRefValue) current).getType();
+        Type impliedType = TypeUtils.getImpliedType(type);
+        if (impliedType.getTag() != TypeTags.UNION_TAG) {
+            return currentType.equals(impliedType);
+        }
+        for (Type memberType : ((UnionType) impliedType).getMemberTypes()) {
+            if (currentType.equals(TypeUtils.getImpliedType(memberType))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Type getNonNilMemberType(UnionType type) {
+        // The branch read is not nil, so an optional type is read as its only member that is not nil.
+        Type memberType = null;
+        for (Type member : type.getMemberTypes()) {
+            if (TypeUtils.getImpliedType(member).getTag() == TypeTags.NULL_TAG) {
+                continue;
+            }
+            if (memberType != null) {
+                return null;
+            }
+            memberType = member;
+        }
+        return memberType;
+    }
+
+    private static Object toBallerinaValue(Object value) {
+        if (value instanceof Integer intValue) {
+            return intValue.longValue();
+        }
+        if (value instanceof Float floatValue) {
+            return floatValue.doubleValue();
+        }
+        if (value instanceof EnumSymbols.Symbol symbol) {
+            return symbol.getValue();
+        }
+        return value;
+    }
+
+    private static final class Session {
+
+        private final EnumTables enumTables;
+        private final StringCache stringCache;
+        private final Utf8 buffer = new Utf8();
+        private final Map<Schema, BallerinaDatumReader> datumReaders = new IdentityHashMap<>();
+        private final Map<Schema, BString[]> fieldNames = new IdentityHashMap<>();
+
+        private Session(EnumTables enumTables, StringCache stringCache) {
+            this.enumTables = enumTables;
+            this.stringCache = stringCache;
+        }
+
+        private Object read(Schema schema, Type type, Object current, Decoder decoder) throws Exception {
+            int tag = TypeUtils.getImpliedType(type).getTag();
+            switch (schema.getType()) {
+                case UNION -> {
+                    return readUnion(schema, type, current, decoder);
+                }
+                case NULL -> {
+                    decoder.readNull();
+                    return ValueUtils.convert(null, type);
+                }
+                case INT -> {
+                    if (tag == TypeTags.INT_TAG) {
+                        return (long) decoder.readInt();
+                    }
+                }
+                case LONG -> {
+                    if (tag == TypeTags.INT_TAG) {
+                        return decoder.readLong();
+                    }
+                }
+                case FLOAT -> {
+                    if (tag == TypeTags.FLOAT_TAG) {
+                        return (double) decoder.readFloat();
+                    }
+                }
+                case DOUBLE -> {
+                    if (tag == TypeTags.FLOAT_TAG) {
+                        return decoder.readDouble();
+                    }
+                }
+                case BOOLEAN -> {
+                    if (tag == TypeTags.BOOLEAN_TAG) {
+                        return decoder.readBoolean();
+                    }
+                }
+                case STRING -> {
+                    if (tag == TypeTags.STRING_TAG) {
+                        return readBString(decoder);
+                    }
+                }
+                case ENUM -> {
+                    BString symbol = enumTables.of(schema).get(decoder.readEnum()).getValue();
+                    // A Ballerina enum is a union of string constants, which the symbol is converted to.
+                    return tag == TypeTags.STRING_TAG ? symbol : ValueUtils.convert(symbol, type);
+                }
+                default -> {
+                    if (isReusable(schema, current) && isOfType(current, type)) {
+                        readInto(schema, current, decoder);
+                        return current;
+                    }
+                }
+            }
+            return decode(schema, type, decoder);
+        }
+
+        private Object readUnion(Schema schema, Type type, Object current, Decoder decoder) throws Exception {
+            Schema branch = schema.getTypes().get(decoder.readIndex());
+            if (branch.getType() == Schema.Type.NULL) {
+                return ValueUtils.convert(null, type);
+            }
+            if (isReusable(branch, current) && isOfType(current, type)) {
+                readInto(branch, current, decoder);
+                return current;
+            }
+            Type impliedType = TypeUtils.getImpliedType(type);
+            if (impliedType.getTag() != TypeTags.UNION_TAG) {
+                return read(branch, type, current, decoder);
+            }
+            Type memberType = getNonNilMemberType((UnionType) impliedType);
+            if (memberType != null) {
+                return read(branch, memberType, current, decoder);
+            }
+            return decode(branch, type, decoder);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void readInto(Schema schema, Object current, Decoder decoder) throws Exception {
+            switch (schema.getType()) {
+                case RECORD -> readRecord(schema, (BMap<BString, Object>) current, decoder);
+                case MAP -> readMap(schema, (BMap<BString, Object>) current, decoder);
+                default -> readArray(schema, (BArray) current, decoder);
+            }
+        }
+
+        private void readRecord(Schema schema, BMap<BString, Object> target, Decoder decoder) throws Exception {
+            RecordType recordType = (RecordType) TypeUtils.getImpliedType(target.getType());
+            Map<String, Field> recordFields = recordType.getFields();
+            List<Schema.Field> fields = schema.getFields();
+            BString[] names = fieldNames.computeIfAbsent(schema, key -> key.getFields().stream()
+                    .map(field -> StringUtils.fromString(field.name())).toArray(BString[]::new));
+            for (int i = 0; i < names.length; i++) {
+                Schema.Field field = fields.get(i);
+                Field recordField = recordFields.get(field.name());
+                Type fieldType = recordField != null ? recordField.getFieldType() : recordType.getRestFieldType();
+                if (fieldType == null || TypeUtils.getImpliedType(fieldType).getTag() == TypeTags.NEVER_TAG) {
+                    throw new IllegalArgumentException("The field '" + field.name()
+                            + "' is not defined in the target record");
+                }
+                target.put(names[i], read(field.schema(), fieldType, target.get(names[i]), decoder));
+            }
+            if (target.size() > names.length) {
+                for (BString key : target.getKeys()) {
+                    if (schema.getField(key.getValue()) == null) {
+                        target.remove(key);
+                    }
+                }
+            }
+        }
+
+        private void readMap(Schema schema, BMap<BString, Object> target, Decoder decoder) throws Exception {
+            Schema valueSchema = schema.getValueType();
+            Type valueType = ((MapType) TypeUtils.getImpliedType(target.getType())).getConstrainedType();
+            Set<BString> keys = target.isEmpty() ? null : new HashSet<>();
+            for (long count = decoder.readMapStart(); count != 0; count = decoder.mapNext()) {
+                for (long i = 0; i < count; i++) {
+                    BString key = readBString(decoder);
+                    target.put(key, read(valueSchema, valueType, target.get(key), decoder));
+                    if (keys != null) {
+                        keys.add(key);
+                    }
+                }
+            }
+            if (keys != null && target.size() > keys.size()) {
+                for (BString key : target.getKeys()) {
+                    if (!keys.contains(key)) {
+                        target.remove(key);
+                    }
+                }
+            }
+        }
+
+        private void readArray(Schema schema, BArray target, Decoder decoder) throws Exception {
+            Schema elementSchema = schema.getElementType();
+            Type elementType = ((ArrayType) TypeUtils.getImpliedType(target.getType())).getElementType();
+            int elementTag = TypeUtils.getImpliedType(elementType).getTag();
+            boolean isPrimitive = switch (elementTag) {
+                case TypeTags.INT_TAG, TypeTags.FLOAT_TAG, TypeTags.BOOLEAN_TAG, TypeTags.BYTE_TAG,
+                     TypeTags.STRING_TAG -> true;
+                default -> false;
+            };
+            int currentSize = target.size();
+            int index = 0;
+            for (long count = decoder.readArrayStart(); count != 0; count = decoder.arrayNext()) {
+                for (long i = 0; i < count; i++, index++) {
+                    Object current = !isPrimitive && index < currentSize ? target.get(index) : null;
+                    Object value = read(elementSchema, elementType, current, decoder);
+                    // Arrays of primitive types are backed by primitive arrays and cannot be set with a reference.
+                    switch (elementTag) {
+                        case TypeTags.INT_TAG -> target.add(index, (long) value);
+                        case TypeTags.FLOAT_TAG -> target.add(index, (double) value);
+                        case TypeTags.BOOLEAN_TAG -> target.add(index, (boolean) value);
+                        case TypeTags.BYTE_TAG -> target.add(index, ((Number) value).byteValue());
+                        case TypeTags.STRING_TAG -> target.add(index, (BString) value);
+                        default -> target.add(index, value);
+                    }
+                }
+            }
+            if (index < currentSize) {
+                target.setLength(index);
+            }
+        }
+
+        private BString readBString(Decoder decoder) throws Exception {
+            Utf8 utf8 = decoder.readString(buffer);
+            if (stringCache == null) {
+                return StringCache.decode(utf8.getBytes(), utf8.getByteLength());
+            }
+            return stringCache.get(utf8.getBytes(), utf8.getByteLength());
+        }
+
+        private Object decode(Schema schema, Type type, Decoder decoder) throws Exception {
+            BallerinaDatumReader datumReader = datumReaders.computeIfAbsent(schema,
+                    key -> new BallerinaDatumReader(key, enumTables, stringCache));
+            Object data = toBallerinaValue(datumReader.read(null, decoder));
+            switch (schema.getType()) {
+                case INT, LONG, FLOAT, DOUBLE, BOOLEAN, STRING, ENUM -> {
+                    return ValueUtils.convert(data, type);
+                }
+                default -> {
+                    if (TypeUtils.getImpliedType(type).getTag() != TypeTags.UNION_TAG) {
+                        return deserialize(schema, data, type);
+                    }
+                    // The deserializers expect a single type, so a value of a union type is converted afterwards.
+                    return ValueUtils.convert(deserialize(schema, data, PredefinedTypes.TYPE_ANYDATA), type);
+                }
+            }
+        }
+
+        private Object deserialize(Schema schema, Object data, Type type) throws Exception {
+            Deserializer deserializer = DeserializeFactory.generateDeserializer(schema, type);
+            return Objects.requireNonNull(deserializer).accept(DESERIALIZE_VISITOR, data);
+        }
+    }
+}
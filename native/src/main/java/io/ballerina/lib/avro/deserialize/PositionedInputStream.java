@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.deserialize;
+
+import java.io.ByteArrayInputStream;
+
+/**
+ * A {@link ByteArrayInputStream} which exposes its position in the array. Read through a direct binary decoder, which
+ * does not read ahead, the position is where the last value decoded or skipped ends.
+ *
+ * @since 1.2.1
+ */
+public final class PositionedInputStream extends ByteArrayInputStream {
+
+    public PositionedInputStream(byte[] buffer, int offset, int length) {
+        super(buffer, offset, length);
+    }
+
+    public synchronized int position() {
+        return pos;
+    }
+}
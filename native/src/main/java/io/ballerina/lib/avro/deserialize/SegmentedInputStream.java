@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.deserialize;
+
+import io.ballerina.runtime.api.values.BArray;
+
+import java.io.InputStream;
+
+/**
+ * An input stream which reads a message from a chain of segments, without concatenating them.
+ *
+ * @since 1.2.1
+ */
+public final class SegmentedInputStream extends InputStream {
+
+    private final BArray segments;
+    private int index = -1;
+    private byte[] segment;
+    private int position;
+    private int limit;
+
+    public SegmentedInputStream(BArray segments) {
+        this.segments = segments;
+    }
+
+    private boolean nextSegment() {
+        while (position == limit) {
+            if (index + 1 >= segments.size()) {
+                return false;
+            }
+            index++;
+            BArray array = (BArray) segments.get(index);
+            segment = array.getByteArray();
+            position = 0;
+            limit = array.size();
+        }
+        return true;
+    }
+
+    @Override
+    public int read() {
+        return nextSegment() ? segment[position++] & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) {
+        if (length == 0) {
+            return 0;
+        }
+        if (!nextSegment()) {
+            return -1;
+        }
+        int count = Math.min(length, limit - position);
+        System.arraycopy(segment, position, bytes, offset, count);
+        position += count;
+        return count;
+    }
+}
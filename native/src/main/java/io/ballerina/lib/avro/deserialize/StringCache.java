@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.deserialize;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded cache which interns short, frequently repeated strings read from Avro payloads.
+ * Values are looked up by their UTF-8 bytes, so a hit neither decodes nor allocates a new string.
+ *
+ * @since 1.2.1
+ */
+public final class StringCache {
+
+    static final int MAX_ENTRY_LENGTH = 64;
+    static final int MAX_CAPACITY = 1 << 20;
+
+    private final Entry[] entries;
+    private final int mask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public StringCache(long size) {
+        int capacity = 1;
+        while (capacity < size && capacity < MAX_CAPACITY) {
+            capacity <<= 1;
+        }
+        this.entries = new Entry[capacity];
+        this.mask = capacity - 1;
+    }
+
+    public BString get(byte[] bytes, int length) {
+        if (length > MAX_ENTRY_LENGTH) {
+            return decode(bytes, length);
+        }
+        int hash = hash(bytes, length);
+        int index = hash & mask;
+        Entry entry = entries[index];
+        if (entry != null && entry.hash == hash && Arrays.equals(entry.bytes, 0, entry.bytes.length,
+                                                                 bytes, 0, length)) {
+            hits.increment();
+            return entry.value;
+        }
+        misses.increment();
+        BString value = decode(bytes, length);
+        // Entries are immutable, so a racing reader sees either the old or the new entry.
+        entries[index] = new Entry(hash, Arrays.copyOf(bytes, length), value);
+        return value;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public static BString decode(byte[] bytes, int length) {
+        return StringUtils.fromString(new String(bytes, 0, length, StandardCharsets.UTF_8));
+    }
+
+    private static int hash(byte[] bytes, int length) {
+        int hash = 1;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + bytes[i];
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private record Entry(int hash, byte[] bytes, BString value) {
+    }
+}
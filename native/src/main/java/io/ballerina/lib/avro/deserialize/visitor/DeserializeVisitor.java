@@ -27,19 +27,21 @@ import io.ballerina.lib.avro.deserialize.MapDeserializer;
 import io.ballerina.lib.avro.deserialize.PrimitiveDeserializer;
 import io.ballerina.lib.avro.deserialize.RecordDeserializer;
 import io.ballerina.lib.avro.deserialize.UnionDeserializer;
+import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.types.ArrayType;
 import io.ballerina.runtime.api.types.Field;
 import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.PredefinedTypes;
 import io.ballerina.runtime.api.types.RecordType;
 import io.ballerina.runtime.api.types.ReferenceType;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.types.TypeTags;
-import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.utils.ValueUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BRefValue;
 import io.ballerina.runtime.api.values.BString;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
@@ -52,6 +54,7 @@ import java.util.List;
 import java.util.Map;
 
 import static io.ballerina.lib.avro.Utils.getMutableType;
+import static io.ballerina.lib.avro.Utils.toBString;
 import static io.ballerina.lib.avro.deserialize.visitor.RecordUtils.processArrayField;
 import static io.ballerina.lib.avro.deserialize.visitor.RecordUtils.processBytesField;
 import static io.ballerina.lib.avro.deserialize.visitor.RecordUtils.processMapField;
@@ -62,6 +65,8 @@ import static io.ballerina.runtime.api.utils.StringUtils.fromString;
 
 public class DeserializeVisitor implements IDeserializeVisitor {
 
+    private static final MapType ANYDATA_MAP_TYPE = TypeCreator.createMapType(PredefinedTypes.TYPE_ANYDATA);
+
     public static Deserializer createDeserializer(Schema schema, Type type) {
         return switch (schema.getElementType().getType()) {
             case UNION ->
@@ -83,7 +88,9 @@ public class DeserializeVisitor implements IDeserializeVisitor {
         Type originalType = recordDeserializer.getType();
         Type type = recordDeserializer.getType();
         Schema schema = recordDeserializer.getSchema();
-        BMap<BString, Object> avroRecord = createAvroRecord(type);
+        boolean isReadOnly = originalType.isReadOnly();
+        // A readonly record is created with its readonly type and populated field by field, so it is never frozen.
+        BMap<BString, Object> avroRecord = createAvroRecord(type, isReadOnly);
         for (Schema.Field field : schema.getFields()) {
             Object fieldData = rec.get(field.name());
             switch (field.schema().getType()) {
@@ -94,66 +101,121 @@ public class DeserializeVisitor implements IDeserializeVisitor {
                     processArrayField(avroRecord, field, fieldData, fieldType);
                 }
                 case BYTES ->
-                        processBytesField(avroRecord, field, fieldData);
+                        processBytesField(avroRecord, field, fieldData, isReadOnly);
                 case RECORD ->
                         processRecordField(avroRecord, field, fieldData);
                 case STRING ->
                         processStringField(avroRecord, field, fieldData);
+                case ENUM ->
+                        avroRecord.populateInitialValue(fromString(field.name()), toBString(fieldData));
                 case INT ->
-                        avroRecord.put(fromString(field.name()), Long.parseLong(fieldData.toString()));
+                        avroRecord.populateInitialValue(fromString(field.name()),
+                                Long.parseLong(fieldData.toString()));
                 case FLOAT ->
-                        avroRecord.put(fromString(field.name()), Double.parseDouble(fieldData.toString()));
+                        avroRecord.populateInitialValue(fromString(field.name()),
+                                Double.parseDouble(fieldData.toString()));
                 case UNION ->
                         processUnionField(type, avroRecord, field, fieldData);
                 default ->
-                        avroRecord.put(fromString(field.name()), fieldData);
+                        avroRecord.populateInitialValue(fromString(field.name()), fieldData);
             }
         }
 
-        if (originalType.isReadOnly()) {
-            avroRecord.freezeDirect();
-        }
-        if (type.getTag() == TypeTags.ANYDATA_TAG) {
-            return (BMap<BString, Object>) ValueUtils.convert(avroRecord, type);
+        if (isReadOnly) {
+            freezeFieldValues(avroRecord);
         }
         return avroRecord;
     }
 
     public BMap<BString, Object> visit(MapDeserializer mapDeserializer, Map<String, Object> data) throws Exception {
-        BMap<BString, Object> avroRecord = ValueCreator.createMapValue();
-        Object[] keys = data.keySet().toArray();
         Schema schema = mapDeserializer.getSchema();
         Type type = mapDeserializer.getType();
+        Schema.Type valueType = schema.getValueType().getType();
+        boolean isReadOnly = type.isReadOnly();
+        Type mapType = getMutableType(TypeUtils.getReferredType(type));
+        // The values are put as decoded, so the map is only created with its type when the constraint matches them.
+        boolean isTyped = mapType.getTag() == TypeTags.MAP_TAG
+                && matchesConstraint(valueType, ((MapType) mapType).getConstrainedType());
+        // A readonly map of immutable values is created with its readonly type, so it is never frozen afterwards.
+        boolean isImmutable = isTyped && isReadOnly && isLeafType(valueType);
+        BMap<BString, Object> avroRecord;
+        if (isImmutable) {
+            avroRecord = ValueCreator.createMapValue(TypeUtils.getImpliedType(type));
+        } else if (isTyped) {
+            avroRecord = ValueCreator.createMapValue(mapType);
+        } else {
+            avroRecord = ValueCreator.createMapValue();
+        }
+        Object[] keys = data.keySet().toArray();
         for (Object key : keys) {
             Object value = data.get(key);
-            Schema.Type valueType = schema.getValueType().getType();
             switch (valueType) {
                 case ARRAY ->
                         processMapArray(avroRecord, schema,
                                         (MapType) getMutableType(type), key, (GenericData.Array<Object>) value);
                 case BYTES ->
-                        avroRecord.put(StringUtils.fromString(key.toString()),
-                                       ValueCreator.createArrayValue(((ByteBuffer) value).array()));
+                        avroRecord.populateInitialValue(toBString(key),
+                                ValueCreator.createArrayValue(((ByteBuffer) value).array(), isReadOnly));
                 case FIXED ->
-                        avroRecord.put(StringUtils.fromString(key.toString()),
-                                       ValueCreator.createArrayValue(((GenericFixed) value).bytes()));
+                        avroRecord.populateInitialValue(toBString(key),
+                                ValueCreator.createArrayValue(((GenericFixed) value).bytes(), isReadOnly));
                 case ENUM, STRING ->
-                        avroRecord.put(StringUtils.fromString(key.toString()),
-                                       StringUtils.fromString(value.toString()));
+                        avroRecord.populateInitialValue(toBString(key), toBString(value));
                 case RECORD ->
                         processMapRecord(avroRecord, schema, (MapType) getMutableType(type),
                                          key, (GenericRecord) value);
                 case FLOAT ->
-                        avroRecord.put(StringUtils.fromString(key.toString()),
-                                       Double.parseDouble(value.toString()));
+                        avroRecord.populateInitialValue(toBString(key),
+                                Double.parseDouble(value.toString()));
                 case MAP ->
                         processMaps(avroRecord, schema, (MapType) getMutableType(type), 
                                     key, (Map<String, Object>) value);
                 default ->
-                        avroRecord.put(StringUtils.fromString(key.toString()), value);
+                        avroRecord.populateInitialValue(toBString(key), toBallerinaValue(value));
             }
         }
-        return (BMap<BString, Object>) ValueUtils.convert(avroRecord, type);
+        if (!isTyped) {
+            return (BMap<BString, Object>) ValueUtils.convert(avroRecord, type);
+        }
+        if (isReadOnly && !isImmutable) {
+            avroRecord.freezeDirect();
+        }
+        return avroRecord;
+    }
+
+    private static boolean matchesConstraint(Schema.Type valueType, Type constraintType) {
+        Type constraint = TypeUtils.getImpliedType(constraintType);
+        return switch (valueType) {
+            case INT, LONG -> constraint.getTag() == TypeTags.INT_TAG;
+            case FLOAT, DOUBLE -> constraint.getTag() == TypeTags.FLOAT_TAG;
+            case ENUM, STRING -> constraint.getTag() == TypeTags.STRING_TAG;
+            case BOOLEAN -> constraint.getTag() == TypeTags.BOOLEAN_TAG;
+            case NULL -> constraint.getTag() == TypeTags.NULL_TAG;
+            case BYTES, FIXED -> constraint.getTag() == TypeTags.ARRAY_TAG
+                    && TypeUtils.getImpliedType(((ArrayType) constraint).getElementType()).getTag()
+                    == TypeTags.BYTE_TAG;
+            case ARRAY -> constraint.getTag() == TypeTags.ARRAY_TAG;
+            case MAP -> constraint.getTag() == TypeTags.MAP_TAG;
+            case RECORD -> constraint.getTag() == TypeTags.RECORD_TYPE_TAG;
+            default -> false;
+        };
+    }
+
+    private static boolean isLeafType(Schema.Type type) {
+        return switch (type) {
+            case ARRAY, MAP, RECORD, UNION -> false;
+            default -> true;
+        };
+    }
+
+    private static Object toBallerinaValue(Object value) {
+        if (value instanceof Integer intValue) {
+            return intValue.longValue();
+        }
+        if (value instanceof Float floatValue) {
+            return floatValue.doubleValue();
+        }
+        return value;
     }
 
     public Object visit(PrimitiveDeserializer primitiveDeserializer, Object data) throws Exception {
@@ -164,7 +226,7 @@ public class DeserializeVisitor implements IDeserializeVisitor {
                 return visitPrimitiveArrays(primitiveDeserializer, (GenericData.Array<Object>) data, schema, type);
             }
             case STRING, ENUM -> {
-                return StringUtils.fromString(data.toString());
+                return toBString(data);
             }
             case FLOAT, DOUBLE -> {
                 if (data instanceof Float) {
@@ -179,7 +241,7 @@ public class DeserializeVisitor implements IDeserializeVisitor {
                 return null;
             }
             case BYTES -> {
-                return ValueCreator.createArrayValue(((ByteBuffer) data).array());
+                return ValueCreator.createArrayValue(((ByteBuffer) data).array(), type != null && type.isReadOnly());
             }
             default -> {
                 return data;
@@ -189,43 +251,55 @@ public class DeserializeVisitor implements IDeserializeVisitor {
 
     private Object visitPrimitiveArrays(PrimitiveDeserializer primitiveDeserializer, GenericData.Array<Object> data,
                                         Schema schema, Type type) {
+        boolean isReadOnly = type.isReadOnly();
         switch (schema.getElementType().getType()) {
             case STRING -> {
-                return ValueUtils.convert(visitStringArray(data), type);
+                return toArrayType(visitStringArray(data, isReadOnly), type);
             }
             case INT -> {
-                return ValueUtils.convert(visitIntArray(data), type);
+                return toArrayType(visitIntArray(data, isReadOnly), type);
             }
             case LONG -> {
-                return ValueUtils.convert(visitLongArray(data), type);
+                return toArrayType(visitLongArray(data, isReadOnly), type);
             }
             case FLOAT, DOUBLE -> {
-                return ValueUtils.convert(visitDoubleArray(data), type);
+                return toArrayType(visitDoubleArray(data, isReadOnly), type);
             }
             case BOOLEAN -> {
-                return ValueUtils.convert(visitBooleanArray(data), type);
+                return toArrayType(visitBooleanArray(data, isReadOnly), type);
             }
             default -> {
-                return ValueUtils.convert(visitBytesArray(data, primitiveDeserializer.getType()), type);
+                return toArrayType(visitBytesArray(data, primitiveDeserializer.getType()), type);
             }
         }
     }
 
+    private static Object toArrayType(BArray array, Type type) {
+        Type arrayType = getMutableType(TypeUtils.getImpliedType(type));
+        if (arrayType.getTag() != TypeTags.ARRAY_TAG || ((ArrayType) arrayType).getSize() != -1
+                || TypeUtils.getImpliedType(((ArrayType) arrayType).getElementType()).getTag()
+                != TypeUtils.getImpliedType(array.getElementType()).getTag()) {
+            return ValueUtils.convert(array, type);
+        }
+        return array;
+    }
+
     public BArray visit(UnionDeserializer unionDeserializer, GenericData.Array<Object> data) throws Exception {
         Type type = unionDeserializer.getType();
         Schema schema = unionDeserializer.getSchema();
+        boolean isReadOnly = type.isReadOnly();
         switch (((ArrayType) type).getElementType().getTag()) {
             case TypeTags.STRING_TAG -> {
-                return visitStringArray(data);
+                return visitStringArray(data, isReadOnly);
             }
             case TypeTags.FLOAT_TAG -> {
-                return visitDoubleArray(data);
+                return visitDoubleArray(data, isReadOnly);
             }
             case TypeTags.BOOLEAN_TAG -> {
-                return visitBooleanArray(data);
+                return visitBooleanArray(data, isReadOnly);
             }
             case TypeTags.INT_TAG -> {
-                return visitIntegerArray(data, schema);
+                return visitIntegerArray(data, schema, isReadOnly);
             }
             case TypeTags.RECORD_TYPE_TAG -> {
                 return visitRecordArray(data, type, schema);
@@ -285,20 +359,33 @@ public class DeserializeVisitor implements IDeserializeVisitor {
         return arrayValue;
     }
 
-    private BMap<BString, Object> createAvroRecord(Type type) {
+    private BMap<BString, Object> createAvroRecord(Type type, boolean isReadOnly) {
         if (type.getTag() == TypeTags.ANYDATA_TAG) {
-            return ValueCreator.createMapValue();
+            return ValueCreator.createMapValue(ANYDATA_MAP_TYPE);
+        }
+        if (isReadOnly && TypeUtils.getImpliedType(type).getTag() == TypeTags.RECORD_TYPE_TAG) {
+            return ValueCreator.createRecordValue((RecordType) TypeUtils.getImpliedType(type));
         }
         return ValueCreator.createRecordValue((RecordType) getMutableType(type));
     }
 
+    private static void freezeFieldValues(BMap<BString, Object> avroRecord) {
+        // Most field values are already created immutable from the readonly field types; the rest, such as those of
+        // union fields, are frozen one by one.
+        for (Object value : avroRecord.values()) {
+            if (value instanceof BRefValue refValue && !refValue.isFrozen()) {
+                refValue.freezeDirect();
+            }
+        }
+    }
+
     private void processMaps(BMap<BString, Object> avroRecord, Schema schema,
                              MapType type, Object key, Map<String, Object> value) throws Exception {
         Schema fieldSchema = schema.getValueType();
         Type fieldType = type.getConstrainedType();
         MapDeserializer mapDes = new MapDeserializer(fieldSchema, fieldType);
         Object fieldValue = mapDes.accept(this, value);
-        avroRecord.put(fromString(key.toString()), fieldValue);
+        avroRecord.put(toBString(key), fieldValue);
     }
 
     private void processMapRecord(BMap<BString, Object> avroRecord, Schema schema,
@@ -306,7 +393,7 @@ public class DeserializeVisitor implements IDeserializeVisitor {
         Type fieldType = type.getConstrainedType();
         RecordDeserializer recordDes = new RecordDeserializer(fieldType, schema.getValueType());
         Object fieldValue = recordDes.accept(this, value);
-        avroRecord.put(fromString(key.toString()), fieldValue);
+        avroRecord.put(toBString(key), fieldValue);
     }
 
     private void processMapArray(BMap<BString, Object> avroRecord, Schema schema,
@@ -314,7 +401,7 @@ public class DeserializeVisitor implements IDeserializeVisitor {
         Type fieldType = type.getConstrainedType();
         ArrayDeserializer arrayDeserializer = new ArrayDeserializer(fieldType, schema.getValueType());
         Object fieldValue = visit(arrayDeserializer, value);
-        avroRecord.put(fromString(key.toString()), fieldValue);
+        avroRecord.put(toBString(key), fieldValue);
     }
 
     public Object visit(ArrayDeserializer arrayDeserializer, GenericData.Array<Object> data) throws Exception {
@@ -353,65 +440,65 @@ public class DeserializeVisitor implements IDeserializeVisitor {
         return ValueCreator.createArrayValue(values.toArray(new BArray[data.size()]), (ArrayType) type);
     }
 
-    private static BArray visitIntegerArray(GenericData.Array<Object> data, Schema schema) {
+    private static BArray visitIntegerArray(GenericData.Array<Object> data, Schema schema, boolean isReadOnly) {
         for (Schema schemaInstance : schema.getElementType().getTypes()) {
             if (schemaInstance.getType().equals(Schema.Type.INT)) {
-                return visitIntArray(data);
+                return visitIntArray(data, isReadOnly);
             }
         }
-        return visitLongArray(data);
+        return visitLongArray(data, isReadOnly);
     }
 
     private BArray visitBytesArray(GenericData.Array<Object> data, Type type) {
         List<BArray> values = new ArrayList<>();
         for (Object datum : data) {
-            values.add(ValueCreator.createArrayValue(((ByteBuffer) datum).array()));
+            values.add(ValueCreator.createArrayValue(((ByteBuffer) datum).array(), type.isReadOnly()));
         }
         return ValueCreator.createArrayValue(values.toArray(new BArray[data.size()]), (ArrayType) type);
     }
 
-    private static BArray visitBooleanArray(GenericData.Array<Object> data) {
+    private static BArray visitBooleanArray(GenericData.Array<Object> data, boolean isReadOnly) {
         boolean[] booleanArray = new boolean[data.size()];
         int index = 0;
         for (Object datum : data) {
             booleanArray[index++] = (boolean) datum;
         }
-        return ValueCreator.createArrayValue(booleanArray);
+        return ValueCreator.createArrayValue(booleanArray, isReadOnly);
     }
 
-    private BArray visitDoubleArray(GenericData.Array<Object> data) {
+    private BArray visitDoubleArray(GenericData.Array<Object> data, boolean isReadOnly) {
         List<Double> doubleList = new ArrayList<>();
         for (Object datum : data) {
             doubleList.add(visitDouble(datum));
         }
         double[] doubleArray = doubleList.stream().mapToDouble(Double::doubleValue).toArray();
-        return ValueCreator.createArrayValue(doubleArray);
+        return ValueCreator.createArrayValue(doubleArray, isReadOnly);
     }
 
-    private static BArray visitLongArray(GenericData.Array<Object> data) {
+    private static BArray visitLongArray(GenericData.Array<Object> data, boolean isReadOnly) {
         List<Long> longList = new ArrayList<>();
         for (Object datum : data) {
             longList.add((Long) datum);
         }
         long[] longArray = longList.stream().mapToLong(Long::longValue).toArray();
-        return ValueCreator.createArrayValue(longArray);
+        return ValueCreator.createArrayValue(longArray, isReadOnly);
     }
 
-    private static BArray visitIntArray(GenericData.Array<Object> data) {
+    private static BArray visitIntArray(GenericData.Array<Object> data, boolean isReadOnly) {
         List<Long> longList = new ArrayList<>();
         for (Object datum : data) {
             longList.add(((Integer) datum).longValue());
         }
         long[] longArray = longList.stream().mapToLong(Long::longValue).toArray();
-        return ValueCreator.createArrayValue(longArray);
+        return ValueCreator.createArrayValue(longArray, isReadOnly);
     }
 
-    private BArray visitStringArray(GenericData.Array<Object> data) {
+    private BArray visitStringArray(GenericData.Array<Object> data, boolean isReadOnly) {
         BString[] stringArray = new BString[data.size()];
         for (int i = 0; i < data.size(); i++) {
             stringArray[i] = visitString(data.get(i));
         }
-        return ValueCreator.createArrayValue(stringArray);
+        return ValueCreator.createArrayValue(stringArray, isReadOnly);
     }
 
 
@@ -428,7 +515,7 @@ public class DeserializeVisitor implements IDeserializeVisitor {
     }
 
     public BString visitString(Object data) {
-        return fromString(data.toString());
+        return toBString(data);
     }
 
     public static Type extractMapType(Type type) throws Exception {
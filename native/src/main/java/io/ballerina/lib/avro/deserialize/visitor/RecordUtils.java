@@ -23,6 +23,7 @@ import io.ballerina.lib.avro.deserialize.MapDeserializer;
 import io.ballerina.lib.avro.deserialize.PrimitiveDeserializer;
 import io.ballerina.lib.avro.deserialize.RecordDeserializer;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Field;
 import io.ballerina.runtime.api.types.RecordType;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.values.BMap;
@@ -41,23 +42,26 @@ public class RecordUtils {
 
     public static void processMapField(BMap<BString, Object> avroRecord,
                                  Schema.Field field, Object fieldData) throws Exception {
-        Type mapType = extractMapType(avroRecord.getType());
+        Field recordField = avroRecord.getType() instanceof RecordType recordType
+                ? recordType.getFields().get(field.name()) : null;
+        Type mapType = recordField != null ? recordField.getFieldType() : extractMapType(avroRecord.getType());
         MapDeserializer mapDeserializer = new MapDeserializer(field.schema(), mapType);
         Object fieldValue = mapDeserializer.accept(new DeserializeVisitor(), fieldData);
-        avroRecord.put(fromString(field.name()), fieldValue);
+        avroRecord.populateInitialValue(fromString(field.name()), fieldValue);
     }
 
     public static void processArrayField(BMap<BString, Object> avroRecord,
                                          Schema.Field field, Object fieldData, Type type) throws Exception {
         ArrayDeserializer arrayDes = new ArrayDeserializer(type, field.schema());
         Object fieldValue = arrayDes.accept(new DeserializeVisitor(), (GenericData.Array<Object>) fieldData);
-        avroRecord.put(fromString(field.name()), fieldValue);
+        avroRecord.populateInitialValue(fromString(field.name()), fieldValue);
     }
 
-    public static void processBytesField(BMap<BString, Object> avroRecord, Schema.Field field, Object fieldData) {
+    public static void processBytesField(BMap<BString, Object> avroRecord, Schema.Field field, Object fieldData,
+                                         boolean isReadOnly) {
         ByteBuffer byteBuffer = (ByteBuffer) fieldData;
-        Object fieldValue = ValueCreator.createArrayValue(byteBuffer.array());
-        avroRecord.put(fromString(field.name()), fieldValue);
+        Object fieldValue = ValueCreator.createArrayValue(byteBuffer.array(), isReadOnly);
+        avroRecord.populateInitialValue(fromString(field.name()), fieldValue);
     }
 
     public static void processRecordField(BMap<BString, Object> avroRecord,
@@ -65,14 +69,14 @@ public class RecordUtils {
         Type recType = extractRecordType((RecordType) avroRecord.getType());
         RecordDeserializer recordDes = new RecordDeserializer(recType, field.schema());
         Object fieldValue = recordDes.accept(new DeserializeVisitor(), fieldData);
-        avroRecord.put(fromString(field.name()), fieldValue);
+        avroRecord.populateInitialValue(fromString(field.name()), fieldValue);
     }
 
     public static void processStringField(BMap<BString, Object> avroRecord,
                                     Schema.Field field, Object fieldData) throws Exception {
         PrimitiveDeserializer stringDes = new PrimitiveDeserializer(null, field.schema());
         Object fieldValue = stringDes.accept(new DeserializeVisitor(), fieldData);
-        avroRecord.put(fromString(field.name()), fieldValue);
+        avroRecord.populateInitialValue(fromString(field.name()), fieldValue);
     }
 
     public static void processUnionField(Type type, BMap<BString, Object> avroRecord,
@@ -35,6 +35,8 @@ import org.apache.avro.util.Utf8;
 import java.nio.ByteBuffer;
 import java.util.Map;
 
+import static io.ballerina.lib.avro.Utils.toBString;
+
 public class UnionRecordUtils {
 
     public static void visitUnionRecords(Type type, BMap<BString, Object> ballerinaRecord,
@@ -42,7 +44,7 @@ public class UnionRecordUtils {
         int size = ballerinaRecord.size();
         for (Schema schemaType : field.schema().getTypes()) {
             if (fieldData == null) {
-                ballerinaRecord.put(StringUtils.fromString(field.name()), null);
+                ballerinaRecord.populateInitialValue(StringUtils.fromString(field.name()), null);
                 break;
             }
             switch (schemaType.getType()) {
@@ -66,34 +68,36 @@ public class UnionRecordUtils {
     private static void handleDefaultField(Schema.Field field, Object fieldData,
                                            BMap<BString, Object> ballerinaRecord) {
         if (fieldData instanceof Boolean) {
-            ballerinaRecord.put(StringUtils.fromString(field.name()), fieldData);
+            ballerinaRecord.populateInitialValue(StringUtils.fromString(field.name()), fieldData);
         }
     }
 
     private static void handleEnumField(Schema.Field field, Object fieldData, BMap<BString, Object> ballerinaRecord) {
         if (fieldData instanceof GenericEnumSymbol<?>) {
-            ballerinaRecord.put(StringUtils.fromString(field.name()), StringUtils.fromString(fieldData.toString()));
+            ballerinaRecord.populateInitialValue(StringUtils.fromString(field.name()), toBString(fieldData));
         }
     }
 
     private static void handleFloatField(Schema.Field field, Object fieldData, BMap<BString, Object> ballerinaRecord) {
         if (fieldData instanceof Double) {
-            ballerinaRecord.put(StringUtils.fromString(field.name()), fieldData);
+            ballerinaRecord.populateInitialValue(StringUtils.fromString(field.name()), fieldData);
         } else {
-            ballerinaRecord.put(StringUtils.fromString(field.name()), Double.parseDouble(fieldData.toString()));
+            ballerinaRecord.populateInitialValue(StringUtils.fromString(field.name()),
+                    Double.parseDouble(fieldData.toString()));
         }
     }
 
     private static void handleIntegerField(Schema.Field field, Object fieldData,
                                            BMap<BString, Object> ballerinaRecord) {
         if (fieldData instanceof Integer || fieldData instanceof Long) {
-            ballerinaRecord.put(StringUtils.fromString(field.name()), ((Number) fieldData).longValue());
+            ballerinaRecord.populateInitialValue(StringUtils.fromString(field.name()),
+                    ((Number) fieldData).longValue());
         }
     }
 
     private static void handleStringField(Schema.Field field, Object fieldData, BMap<BString, Object> ballerinaRecord) {
-        if (fieldData instanceof Utf8) {
-            ballerinaRecord.put(StringUtils.fromString(field.name()), StringUtils.fromString(fieldData.toString()));
+        if (fieldData instanceof BString || fieldData instanceof Utf8) {
+            ballerinaRecord.populateInitialValue(StringUtils.fromString(field.name()), toBString(fieldData));
         }
     }
 
@@ -102,7 +106,7 @@ public class UnionRecordUtils {
         if (fieldData instanceof GenericRecord) {
             RecordDeserializer recordDes = new RecordDeserializer(type, schemaType);
             Object fieldValue = recordDes.accept(new DeserializeVisitor(), (GenericRecord) fieldData);
-            ballerinaRecord.put(StringUtils.fromString(field.name()), fieldValue);
+            ballerinaRecord.populateInitialValue(StringUtils.fromString(field.name()), fieldValue);
         }
     }
 
@@ -111,24 +115,24 @@ public class UnionRecordUtils {
             BMap<BString, Object> avroMap = ValueCreator.createMapValue();
             Object[] keys = ((Map<String, Object>) fieldData).keySet().toArray();
             for (Object key : keys) {
-                avroMap.put(StringUtils.fromString(key.toString()),
+                avroMap.put(toBString(key),
                         ((Map<String, Object>) fieldData).get(key));
             }
-            ballerinaRecord.put(StringUtils.fromString(field.name()), avroMap);
+            ballerinaRecord.populateInitialValue(StringUtils.fromString(field.name()), avroMap);
         }
     }
 
     private static void handleBytesField(Schema.Field field, Object fieldData, BMap<BString, Object> ballerinaRecord) {
         if (fieldData instanceof ByteBuffer) {
             BArray byteArray = ValueCreator.createArrayValue(((ByteBuffer) fieldData).array());
-            ballerinaRecord.put(StringUtils.fromString(field.name()), byteArray);
+            ballerinaRecord.populateInitialValue(StringUtils.fromString(field.name()), byteArray);
         }
     }
 
     private static void handleFixedField(Schema.Field field, Object fieldData, BMap<BString, Object> ballerinaRecord) {
         if (fieldData instanceof GenericFixed) {
             BArray byteArray = ValueCreator.createArrayValue(((GenericData.Fixed) fieldData).bytes());
-            ballerinaRecord.put(StringUtils.fromString(field.name()), byteArray);
+            ballerinaRecord.populateInitialValue(StringUtils.fromString(field.name()), byteArray);
         }
     }
 
@@ -142,12 +146,12 @@ public class UnionRecordUtils {
                 BArray ballerinaArray = ValueCreator.createArrayValue(stringArray);
                 int i = 0;
                 for (Object obj : objectArray) {
-                    stringArray[i] = StringUtils.fromString(obj.toString());
+                    stringArray[i] = toBString(obj);
                     i++;
                 }
-                ballerinaRecord.put(StringUtils.fromString(field.name()), ballerinaArray);
+                ballerinaRecord.populateInitialValue(StringUtils.fromString(field.name()), ballerinaArray);
             } else {
-                ballerinaRecord.put(StringUtils.fromString(field.name()), fieldData);
+                ballerinaRecord.populateInitialValue(StringUtils.fromString(field.name()), fieldData);
             }
         }
     }
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import org.apache.avro.Schema;
+
+/**
+ * The base of the JDK Flight Recorder events emitted by the Avro module.
+ * The events are only committed when they are enabled and take longer than their threshold, which is 1 ms unless
+ * it is overridden in the recording settings, e.g., {@code ballerina.avro.Serialization#threshold=10 ms}.
+ *
+ * @since 1.2.1
+ */
+@Category({"Ballerina", "Avro"})
+@Threshold("1 ms")
+@StackTrace(false)
+public abstract class AvroEvent extends jdk.jfr.Event {
+
+    @Label("Schema")
+    @Description("The full name of the Avro schema")
+    private String schema;
+
+    @Label("Payload Size")
+    @Description("The size of the Avro encoded payload")
+    @DataAmount
+    private long payloadSize;
+
+    /**
+     * Ends the event and commits it if it is enabled and exceeded its threshold.
+     *
+     * @param avroSchema   the schema of the payload
+     * @param payloadBytes the size of the payload
+     */
+    public void complete(Schema avroSchema, long payloadBytes) {
+        end();
+        if (shouldCommit()) {
+            this.schema = avroSchema.getFullName();
+            this.payloadSize = payloadBytes;
+            commit();
+        }
+    }
+}
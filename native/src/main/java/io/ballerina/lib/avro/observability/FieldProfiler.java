@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.observability;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.apache.avro.Schema;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static io.ballerina.lib.avro.ModuleUtils.getModule;
+import static io.ballerina.runtime.api.utils.StringUtils.fromString;
+
+/**
+ * Accumulates the encoding and decoding costs of the fields of a schema, keyed by their dot-separated paths from
+ * the root record. The cost of a field includes the costs of its nested fields.
+ *
+ * @since 1.2.1
+ */
+public final class FieldProfiler {
+
+    private static final String FIELD_PROFILE = "FieldProfile";
+
+    private final Map<String, FieldCost> costs = new ConcurrentHashMap<>();
+
+    public static String path(String parentPath, Schema.Field field) {
+        return parentPath == null ? field.name() : parentPath + "." + field.name();
+    }
+
+    public void recordEncoding(String path, long durationNanos, long bytes) {
+        FieldCost cost = costs.computeIfAbsent(path, key -> new FieldCost());
+        cost.encodeCount.increment();
+        cost.encodeNanos.add(durationNanos);
+        cost.encodedBytes.add(bytes);
+    }
+
+    public void recordDecoding(String path, long durationNanos) {
+        FieldCost cost = costs.computeIfAbsent(path, key -> new FieldCost());
+        cost.decodeCount.increment();
+        cost.decodeNanos.add(durationNanos);
+    }
+
+    public void reset() {
+        costs.clear();
+    }
+
+    /**
+     * Returns the costs as {@code avro:FieldProfile} records, ordered by the total encoding and decoding time.
+     *
+     * @return an array of {@code avro:FieldProfile} records
+     */
+    public BArray toBallerina() {
+        List<Map.Entry<String, FieldCost>> entries = costs.entrySet().stream()
+                .sorted(Comparator.comparingLong(
+                        (Map.Entry<String, FieldCost> entry) -> entry.getValue().totalNanos()).reversed())
+                .toList();
+        Object[] profiles = new Object[entries.size()];
+        for (int i = 0; i < profiles.length; i++) {
+            profiles[i] = entries.get(i).getValue().toBallerina(entries.get(i).getKey());
+        }
+        Type profileType = ValueCreator.createRecordValue(getModule(), FIELD_PROFILE).getType();
+        return ValueCreator.createArrayValue(profiles, TypeCreator.createArrayType(profileType));
+    }
+
+    private static final class FieldCost {
+
+        private final LongAdder encodeCount = new LongAdder();
+        private final LongAdder encodeNanos = new LongAdder();
+        private final LongAdder encodedBytes = new LongAdder();
+        private final LongAdder decodeCount = new LongAdder();
+        private final LongAdder decodeNanos = new LongAdder();
+
+        private long totalNanos() {
+            return encodeNanos.sum() + decodeNanos.sum();
+        }
+
+        private BMap<BString, Object> toBallerina(String path) {
+            Map<String, Object> values = new HashMap<>();
+            values.put("path", fromString(path));
+            values.put("encodeCount", encodeCount.sum());
+            values.put("encodeNanos", encodeNanos.sum());
+            values.put("encodedBytes", encodedBytes.sum());
+            values.put("decodeCount", decodeCount.sum());
+            values.put("decodeNanos", decodeNanos.sum());
+            return ValueCreator.createRecordValue(getModule(), FIELD_PROFILE, values);
+        }
+    }
+}
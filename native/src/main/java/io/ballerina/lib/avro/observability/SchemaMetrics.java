@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.observability;
+
+import io.ballerina.lib.avro.deserialize.DecodedValueCache;
+import io.ballerina.lib.avro.deserialize.StringCache;
+import io.ballerina.lib.avro.serialize.EncodedValueCache;
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+import io.ballerina.runtime.observability.metrics.Tag;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaNormalization;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Publishes the metrics of an Avro schema through the Ballerina observability API.
+ * Every metric is tagged with the full name and the parsing fingerprint of the schema.
+ *
+ * @since 1.2.1
+ */
+public final class SchemaMetrics {
+
+    private static final String SCHEMA_TAG = "schema";
+    private static final String FINGERPRINT_TAG = "fingerprint";
+    private static final String OPERATION_TAG = "operation";
+    private static final String CAUSE_TAG = "cause";
+    private static final String CACHE_TAG = "cache";
+    private static final String SERIALIZATION = "toAvro";
+    private static final String DESERIALIZATION = "fromAvro";
+
+    private final MetricRegistry registry = DefaultMetricRegistry.getInstance();
+    private final Set<Tag> tags;
+    private final Operation serialization;
+    private final Operation deserialization;
+    private final StringCache stringCache;
+    private final Cache stringCacheMetrics;
+    private final Cache encodedValueCacheMetrics;
+    private final Cache decodedValueCacheMetrics;
+    // The totals of the string cache published so far, as its counters are advanced by the lookups since then.
+    private long stringCacheHits;
+    private long stringCacheMisses;
+
+    private SchemaMetrics(Schema schema, StringCache stringCache, EncodedValueCache encodedValueCache,
+                          DecodedValueCache decodedValueCache) {
+        this.tags = Set.of(Tag.of(SCHEMA_TAG, schema.getFullName()), Tag.of(FINGERPRINT_TAG,
+                           Long.toHexString(SchemaNormalization.parsingFingerprint64(schema))));
+        this.serialization = new Operation(SERIALIZATION);
+        this.deserialization = new Operation(DESERIALIZATION);
+        this.stringCache = stringCache;
+        this.stringCacheMetrics = stringCache == null ? null : new Cache("string");
+        this.encodedValueCacheMetrics = encodedValueCache == null ? null : new Cache("encodedValue");
+        this.decodedValueCacheMetrics = decodedValueCache == null ? null : new Cache("decodedValue");
+    }
+
+    /**
+     * Creates the metrics of a schema, if metrics are enabled.
+     *
+     * @param schema            the Avro schema
+     * @param stringCache       the string cache of the schema, or null if it has none
+     * @param encodedValueCache the encoded value cache of the schema, or null if it has none
+     * @param decodedValueCache the decoded value cache of the schema, or null if it has none
+     * @return the metrics, or null if metrics are disabled
+     */
+    public static SchemaMetrics create(Schema schema, StringCache stringCache, EncodedValueCache encodedValueCache,
+                                       DecodedValueCache decodedValueCache) {
+        return ObserveUtils.isMetricsEnabled()
+                ? new SchemaMetrics(schema, stringCache, encodedValueCache, decodedValueCache) : null;
+    }
+
+    public void recordSerialization(long durationNanos, int payloadBytes) {
+        serialization.record(durationNanos, payloadBytes);
+    }
+
+    public void recordSerializationError(Throwable throwable) {
+        serialization.recordError(throwable);
+    }
+
+    public void recordDeserialization(long durationNanos, int payloadBytes) {
+        deserialization.record(durationNanos, payloadBytes);
+        if (stringCache != null) {
+            recordStringCacheLookups();
+        }
+    }
+
+    public void recordEncodedValueCacheLookup(boolean hit) {
+        if (encodedValueCacheMetrics != null) {
+            encodedValueCacheMetrics.record(hit ? 1 : 0, hit ? 0 : 1);
+        }
+    }
+
+    public void recordDecodedValueCacheLookup(boolean hit) {
+        if (decodedValueCacheMetrics != null) {
+            decodedValueCacheMetrics.record(hit ? 1 : 0, hit ? 0 : 1);
+        }
+    }
+
+    private synchronized void recordStringCacheLookups() {
+        long hits = stringCache.getHits();
+        long misses = stringCache.getMisses();
+        stringCacheMetrics.record(hits - stringCacheHits, misses - stringCacheMisses);
+        stringCacheHits = hits;
+        stringCacheMisses = misses;
+    }
+
+    public void recordDeserializationError(Throwable throwable) {
+        deserialization.recordError(throwable);
+    }
+
+    private Set<Tag> tags(String... keyValues) {
+        Set<Tag> operationTags = new HashSet<>(tags);
+        for (int i = 0; i < keyValues.length; i += 2) {
+            operationTags.add(Tag.of(keyValues[i], keyValues[i + 1]));
+        }
+        return operationTags;
+    }
+
+    private final class Cache {
+
+        private final Counter hits;
+        private final Counter misses;
+        private final Gauge hitRatio;
+
+        private Cache(String name) {
+            Set<Tag> cacheTags = tags(CACHE_TAG, name);
+            this.hits = registry.counter(new MetricId("avro_cache_hits_total",
+                    "Total number of lookups which found the value in the cache", cacheTags));
+            this.misses = registry.counter(new MetricId("avro_cache_misses_total",
+                    "Total number of lookups which did not find the value in the cache", cacheTags));
+            this.hitRatio = registry.gauge(new MetricId("avro_cache_hit_ratio",
+                    "Ratio of the lookups which found the value in the cache", cacheTags));
+        }
+
+        private void record(long hitCount, long missCount) {
+            if (hitCount > 0) {
+                hits.increment(hitCount);
+            }
+            if (missCount > 0) {
+                misses.increment(missCount);
+            }
+            long totalHits = hits.getValue();
+            long lookups = totalHits + misses.getValue();
+            hitRatio.setValue(lookups == 0 ? 0 : (double) totalHits / lookups);
+        }
+    }
+
+    private final class Operation {
+
+        private final String name;
+        private final Counter messages;
+        private final Counter payloadBytes;
+        private final Gauge processingTime;
+
+        private Operation(String name) {
+            this.name = name;
+            Set<Tag> operationTags = tags(OPERATION_TAG, name);
+            this.messages = registry.counter(new MetricId("avro_messages_total",
+                    "Total number of messages processed", operationTags));
+            this.payloadBytes = registry.counter(new MetricId("avro_payload_bytes_total",
+                    "Total number of bytes written or read", operationTags));
+            this.processingTime = registry.gauge(new MetricId("avro_processing_time_seconds",
+                    "Time taken to process a message", operationTags), StatisticConfig.DEFAULT);
+        }
+
+        private void record(long durationNanos, int bytes) {
+            messages.increment();
+            payloadBytes.increment(bytes);
+            processingTime.setValue(durationNanos / 1e9);
+        }
+
+        private void recordError(Throwable throwable) {
+            // Error counters are looked up on demand, as the causes are not known in advance.
+            registry.counter(new MetricId("avro_errors_total", "Total number of failed messages",
+                    tags(OPERATION_TAG, name, CAUSE_TAG, throwable.getClass().getSimpleName()))).increment();
+        }
+    }
+}
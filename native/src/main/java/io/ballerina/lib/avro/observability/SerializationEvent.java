@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.observability;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The JDK Flight Recorder event of {@code toAvro}.
+ *
+ * @since 1.2.1
+ */
+@Name("ballerina.avro.Serialization")
+@Label("Avro Serialization")
+@Description("An Avro message serialized by `toAvro`")
+public final class SerializationEvent extends AvroEvent {
+
+    @Label("Compiled")
+    @Description("Whether the message was written by the compiled serialization plan of the schema")
+    public boolean compiled;
+
+    @Label("Cached")
+    @Description("Whether the message was taken from the encoded value cache of the schema")
+    public boolean cached;
+}
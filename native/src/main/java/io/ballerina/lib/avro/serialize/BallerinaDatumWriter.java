@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.serialize;
+
+import io.ballerina.lib.avro.EnumSymbols;
+import io.ballerina.lib.avro.observability.FieldProfiler;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.io.Encoder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+/**
+ * A {@link GenericDatumWriter} which writes the pre-resolved ordinal of an {@link EnumSymbols.Symbol} directly
+ * instead of looking the symbol up in the schema again, and encodes strings into a reused buffer. In canonical mode,
+ * the entries of maps are written sorted by their keys. If a {@link FieldProfiler} is given, the time taken and the
+ * bytes written by each field are recorded, using the given position of the encoder.
+ *
+ * @since 1.2.1
+ */
+public class BallerinaDatumWriter extends GenericDatumWriter<Object> {
+
+    private static final Comparator<Map.Entry<Object, Object>> KEY_ORDER =
+            Comparator.comparing(entry -> entry.getKey().toString());
+
+    private final boolean canonical;
+    private final FieldProfiler profiler;
+    private final IntSupplier position;
+    private String path;
+
+    public BallerinaDatumWriter(Schema schema) {
+        this(schema, false, null, null);
+    }
+
+    public BallerinaDatumWriter(Schema schema, boolean canonical, FieldProfiler profiler, IntSupplier position) {
+        super(schema);
+        this.canonical = canonical;
+        this.profiler = profiler;
+        this.position = position;
+    }
+
+    @Override
+    protected void writeField(Object datum, Schema.Field field, Encoder out, Object state) throws IOException {
+        if (profiler == null) {
+            super.writeField(datum, field, out, state);
+            return;
+        }
+        String parentPath = path;
+        path = FieldProfiler.path(parentPath, field);
+        int startPosition = position.getAsInt();
+        long startTime = System.nanoTime();
+        super.writeField(datum, field, out, state);
+        profiler.recordEncoding(path, System.nanoTime() - startTime, position.getAsInt() - startPosition);
+        path = parentPath;
+    }
+
+    @Override
+    protected Iterable<Map.Entry<Object, Object>> getMapEntries(Object map) {
+        Iterable<Map.Entry<Object, Object>> entries = super.getMapEntries(map);
+        if (!canonical) {
+            return entries;
+        }
+        List<Map.Entry<Object, Object>> sortedEntries = new ArrayList<>();
+        entries.forEach(sortedEntries::add);
+        sortedEntries.sort(KEY_ORDER);
+        return sortedEntries;
+    }
+
+    @Override
+    protected void writeString(Object datum, Encoder out) throws IOException {
+        if (datum instanceof String string) {
+            Encoders.writeString(out, string);
+            return;
+        }
+        super.writeString(datum, out);
+    }
+
+    @Override
+    protected void writeEnum(Schema schema, Object datum, Encoder out) throws IOException {
+        if (datum instanceof EnumSymbols.Symbol symbol) {
+            out.writeEnum(symbol.getOrdinal());
+            return;
+        }
+        super.writeEnum(schema, datum, out);
+    }
+}
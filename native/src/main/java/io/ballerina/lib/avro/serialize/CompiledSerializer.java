@@ -0,0 +1,401 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.lib.avro.serialize;
+
+import io.ballerina.lib.avro.EnumSymbols;
+import io.ballerina.lib.avro.EnumTables;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.apache.avro.AvroTypeException;
+import org.apache.avro.Schema;
+import org.apache.avro.io.Encoder;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A serialization plan compiled once per schema, which writes Ballerina values straight to the encoder. The plan is a
+ * tree of encoders specialized to the schema, so the schema is not inspected again per value and no intermediate
+ * Avro datum is built. It writes the same bytes as the visitor path, including the order of map entries. Schemas
+ * with constructs the visitor resolves ambiguously, such as unions of several numeric types, are not compiled and
+ * are always serialized by the visitor.
+ *
+ * @since 1.2.1
+ */
+public final class CompiledSerializer {
+
+    private static final Comparator<Object> KEY_ORDER = Comparator.comparing(Object::toString);
+
+    private final DatumEncoder root;
+
+    private CompiledSerializer(DatumEncoder root) {
+        this.root = root;
+    }
+
+    /**
+     * Compiles the plan of the given schema. It is compiled once by {@code init}, and kept in the native data of the
+     * {@code avro:Schema} object.
+     *
+     * @param schema the schema of the values
+     * @param enumTables the enum symbol tables of the schema
+     * @return the plan, or null if the schema cannot be compiled
+     */
+    public static CompiledSerializer compile(Schema schema, EnumTables enumTables) {
+        return compile(schema, enumTables, false);
+    }
+
+    /**
+     * Compiles the plan of the given schema, optionally writing the canonical encoding, in which the entries of maps
+     * are sorted by their keys.
+     *
+     * @param schema the schema of the values
+     * @param enumTables the enum symbol tables of the schema
+     * @param canonical whether the entries of maps are written sorted by their keys
+     * @return the plan, or null if the schema cannot be compiled
+     */
+    public static CompiledSerializer compile(Schema schema, EnumTables enumTables, boolean canonical) {
+        try {
+            return new CompiledSerializer(new Compiler(enumTables, canonical).message(schema));
+        } catch (UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    public void write(Object data, Encoder encoder) throws IOException {
+        root.write(data, encoder);
+    }
+
+    @FunctionalInterface
+    private interface DatumEncoder {
+        void write(Object data, Encoder encoder) throws IOException;
+    }
+
+    /**
+     * The encoder of a record. It is registered before its fields are compiled, so recursive schemas refer to it.
+     */
+    private static final class RecordEncoder implements DatumEncoder {
+
+        private BString[] names;
+        private DatumEncoder[] fields;
+
+        @Override
+        public void write(Object data, Encoder encoder) throws IOException {
+            BMap<?, ?> record = (BMap<?, ?>) data;
+            for (int i = 0; i < fields.length; i++) {
+                fields[i].write(record.get(names[i]), encoder);
+            }
+        }
+    }
+
+    /**
+     * Compiles the encoders, mirroring the serializer the visitor path picks for each position of a schema.
+     */
+    private static final class Compiler {
+
+        private final Map<Schema, RecordEncoder> records = new HashMap<>();
+        private final EnumTables enumTables;
+        private final boolean canonical;
+
+        Compiler(EnumTables enumTables, boolean canonical) {
+            this.enumTables = enumTables;
+            this.canonical = canonical;
+        }
+
+        // The top-level schema, and the branches of unions, as created by MessageFactory.
+        DatumEncoder message(Schema schema) {
+            if (schema.getType() == Schema.Type.UNION) {
+                throw new UnsupportedOperationException();
+            }
+            return value(schema);
+        }
+
+        // The fields of records, as serialized by SerializeVisitor#serializeField.
+        private DatumEncoder field(Schema schema) {
+            return switch (schema.getType()) {
+                case UNION -> union(schema);
+                case FIXED -> throw new UnsupportedOperationException();
+                default -> value(schema);
+            };
+        }
+
+        // The values of maps, as created by SerializeVisitor#createSerializer.
+        private DatumEncoder mapValue(Schema schema) {
+            return switch (schema.getType()) {
+                case UNION, NULL -> throw new UnsupportedOperationException();
+                default -> value(schema);
+            };
+        }
+
+        private DatumEncoder value(Schema schema) {
+            return switch (schema.getType()) {
+                case RECORD -> record(schema);
+                case MAP -> map(schema);
+                case ARRAY -> array(schema);
+                case ENUM -> {
+                    EnumSymbols symbols = enumTables.of(schema);
+                    yield (data, encoder) -> encoder.writeEnum(symbols.get(data).getOrdinal());
+                }
+                case FIXED -> {
+                    int size = schema.getFixedSize();
+                    yield (data, encoder) -> encoder.writeFixed(((BArray) data).getByteArray(), 0, size);
+                }
+                case BYTES -> (data, encoder) -> encoder.writeBytes(((BArray) data).getByteArray());
+                case STRING -> (data, encoder) -> Encoders.writeString(encoder, toJavaString(data));
+                case INT -> (data, encoder) -> encoder.writeInt(((Number) data).intValue());
+                case LONG -> (data, encoder) -> encoder.writeLong(((Number) data).longValue());
+                case FLOAT -> (data, encoder) -> encoder.writeFloat(((Number) data).floatValue());
+                case DOUBLE -> (data, encoder) -> encoder.writeDouble(data instanceof BDecimal decimal
+                        ? decimal.floatValue() : ((Number) data).doubleValue());
+                case BOOLEAN -> (data, encoder) -> encoder.writeBoolean((Boolean) data);
+                case NULL -> (data, encoder) -> {
+                    if (data != null) {
+                        throw new AvroTypeException("The value does not match with the null schema");
+                    }
+                    encoder.writeNull();
+                };
+                case UNION -> throw new UnsupportedOperationException();
+            };
+        }
+
+        private DatumEncoder record(Schema schema) {
+            RecordEncoder recordEncoder = records.get(schema);
+            if (recordEncoder != null) {
+                return recordEncoder;
+            }
+            recordEncoder = new RecordEncoder();
+            records.put(schema, recordEncoder);
+            List<Schema.Field> schemaFields = schema.getFields();
+            BString[] names = new BString[schemaFields.size()];
+            DatumEncoder[] fields = new DatumEncoder[schemaFields.size()];
+            for (int i = 0; i < fields.length; i++) {
+                names[i] = StringUtils.fromString(schemaFields.get(i).name());
+                fields[i] = field(schemaFields.get(i).schema());
+            }
+            recordEncoder.names = names;
+            recordEncoder.fields = fields;
+            return recordEncoder;
+        }
+
+        private DatumEncoder map(Schema schema) {
+            DatumEncoder valueEncoder = mapValue(schema.getValueType());
+            if (canonical) {
+                return (data, encoder) -> {
+                    BMap<?, ?> map = (BMap<?, ?>) data;
+                    Object[] keys = map.getKeys();
+                    Arrays.sort(keys, KEY_ORDER);
+                    encoder.writeMapStart();
+                    encoder.setItemCount(keys.length);
+                    for (Object key : keys) {
+                        encoder.startItem();
+                        Encoders.writeString(encoder, key.toString());
+                        valueEncoder.write(map.get(key), encoder);
+                    }
+                    encoder.writeMapEnd();
+                };
+            }
+            return (data, encoder) -> {
+                BMap<?, ?> map = (BMap<?, ?>) data;
+                // The visitor collects the entries in a HashMap, whose iteration order decides the encoding.
+                Map<String, Object> entries = new HashMap<>();
+                for (Object key : map.getKeys()) {
+                    entries.put(key.toString(), map.get(key));
+                }
+                encoder.writeMapStart();
+                encoder.setItemCount(entries.size());
+                for (Map.Entry<String, Object> entry : entries.entrySet()) {
+                    encoder.startItem();
+                    Encoders.writeString(encoder, entry.getKey());
+                    valueEncoder.write(entry.getValue(), encoder);
+                }
+                encoder.writeMapEnd();
+            };
+        }
+
+        private DatumEncoder array(Schema schema) {
+            Schema elementSchema = schema.getElementType();
+            return switch (elementSchema.getType()) {
+                case STRING -> (data, encoder) -> {
+                    String[] values = ((BArray) data).getStringArray();
+                    startArray(encoder, values.length);
+                    for (String value : values) {
+                        encoder.startItem();
+                        Encoders.writeString(encoder, value);
+                    }
+                    encoder.writeArrayEnd();
+                };
+                case INT -> (data, encoder) -> {
+                    long[] values = ((BArray) data).getIntArray();
+                    startArray(encoder, values.length);
+                    for (long value : values) {
+                        encoder.startItem();
+                        encoder.writeInt((int) value);
+                    }
+                    encoder.writeArrayEnd();
+                };
+                case LONG -> (data, encoder) -> {
+                    long[] values = ((BArray) data).getIntArray();
+                    startArray(encoder, values.length);
+                    for (long value : values) {
+                        encoder.startItem();
+                        encoder.writeLong(value);
+                    }
+                    encoder.writeArrayEnd();
+                };
+                case FLOAT -> (data, encoder) -> {
+                    double[] values = ((BArray) data).getFloatArray();
+                    startArray(encoder, values.length);
+                    for (double value : values) {
+                        encoder.startItem();
+                        encoder.writeFloat((float) value);
+                    }
+                    encoder.writeArrayEnd();
+                };
+                case DOUBLE -> (data, encoder) -> {
+                    double[] values = ((BArray) data).getFloatArray();
+                    startArray(encoder, values.length);
+                    for (double value : values) {
+                        encoder.startItem();
+                        encoder.writeDouble(value);
+                    }
+                    encoder.writeArrayEnd();
+                };
+                case BOOLEAN -> (data, encoder) -> {
+                    boolean[] values = ((BArray) data).getBooleanArray();
+                    startArray(encoder, values.length);
+                    for (boolean value : values) {
+                        encoder.startItem();
+                        encoder.writeBoolean(value);
+                    }
+                    encoder.writeArrayEnd();
+                };
+                case ENUM -> {
+                    DatumEncoder elementEncoder = value(elementSchema);
+                    yield (data, encoder) -> {
+                        BArray array = (BArray) data;
+                        Object[] values = array.getValues() == null ? array.getStringArray() : array.getValues();
+                        writeElements(values, elementEncoder, encoder);
+                    };
+                }
+                case BYTES, FIXED, RECORD, MAP, ARRAY -> {
+                    DatumEncoder elementEncoder = value(elementSchema);
+                    yield (data, encoder) -> writeElements(((BArray) data).getValues(), elementEncoder, encoder);
+                }
+                case UNION, NULL -> throw new UnsupportedOperationException();
+            };
+        }
+
+        private DatumEncoder union(Schema schema) {
+            List<Schema> branches = schema.getTypes();
+            Set<Schema.Type> kinds = EnumSet.noneOf(Schema.Type.class);
+            for (Schema branch : branches) {
+                if (!kinds.add(branch.getType())) {
+                    throw new UnsupportedOperationException();
+                }
+            }
+            // The visitor picks a branch by the type of the value, and the datum writer then resolves the branch by
+            // the converted datum. Both agree only if no two branches accept the same kind of Ballerina value.
+            if (kinds.contains(Schema.Type.FLOAT) || conflicts(kinds, Schema.Type.ENUM, Schema.Type.STRING)
+                    || conflicts(kinds, Schema.Type.INT, Schema.Type.LONG)
+                    || conflicts(kinds, Schema.Type.DOUBLE, Schema.Type.INT)
+                    || conflicts(kinds, Schema.Type.DOUBLE, Schema.Type.LONG)
+                    || conflicts(kinds, Schema.Type.BYTES, Schema.Type.FIXED)
+                    || conflicts(kinds, Schema.Type.ARRAY, Schema.Type.BYTES)
+                    || conflicts(kinds, Schema.Type.ARRAY, Schema.Type.FIXED)) {
+                throw new UnsupportedOperationException();
+            }
+            int[][] tags = new int[branches.size()][];
+            DatumEncoder[] encoders = new DatumEncoder[branches.size()];
+            for (int i = 0; i < encoders.length; i++) {
+                tags[i] = tagsOf(branches.get(i).getType());
+                encoders[i] = message(branches.get(i));
+            }
+            return (data, encoder) -> {
+                int tag = TypeUtils.getType(data).getTag();
+                for (int i = 0; i < tags.length; i++) {
+                    for (int branchTag : tags[i]) {
+                        if (branchTag == tag) {
+                            encoder.writeIndex(i);
+                            encoders[i].write(data, encoder);
+                            return;
+                        }
+                    }
+                }
+                throw new AvroTypeException("Value does not match with the Avro union types");
+            };
+        }
+
+        private static boolean conflicts(Set<Schema.Type> kinds, Schema.Type first, Schema.Type second) {
+            return kinds.contains(first) && kinds.contains(second);
+        }
+
+        // The Ballerina type tags of the values accepted by a union branch, as in SerializeVisitor#deriveBallerinaTag.
+        private static int[] tagsOf(Schema.Type type) {
+            return switch (type) {
+                case STRING, ENUM -> new int[]{TypeTags.STRING_TAG};
+                case FLOAT, DOUBLE -> new int[]{TypeTags.FLOAT_TAG, TypeTags.DECIMAL_TAG, TypeTags.INT_TAG};
+                case LONG, INT -> new int[]{TypeTags.INT_TAG};
+                case BOOLEAN -> new int[]{TypeTags.BOOLEAN_TAG};
+                case NULL -> new int[]{TypeTags.NULL_TAG};
+                case RECORD -> new int[]{TypeTags.RECORD_TYPE_TAG};
+                case ARRAY -> new int[]{TypeTags.ARRAY_TAG};
+                case MAP -> new int[]{TypeTags.MAP_TAG};
+                case BYTES, FIXED -> new int[]{TypeTags.BYTE_TAG, TypeTags.BYTE_ARRAY_TAG, TypeTags.ARRAY_TAG};
+                default -> new int[]{TypeTags.ANYDATA_TAG};
+            };
+        }
+
+        private static String toJavaString(Object data) {
+            return data instanceof BString bString ? bString.getValue() : data.toString();
+        }
+
+        private static void startArray(Encoder encoder, int size) throws IOException {
+            encoder.writeArrayStart();
+            encoder.setItemCount(size);
+        }
+
+        // The visitor skips the null slots of the backing array of the value.
+        private static void writeElements(Object[] values, DatumEncoder elementEncoder,
+                                          Encoder encoder) throws IOException {
+            int size = 0;
+            for (Object value : values) {
+                if (value != null) {
+                    size++;
+                }
+            }
+            startArray(encoder, size);
+            for (Object value : values) {
+                if (value != null) {
+                    encoder.startItem();
+                    elementEncoder.write(value, encoder);
+                }
+            }
+            encoder.writeArrayEnd();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.serialize;
+
+import io.ballerina.lib.avro.EnumTables;
+import io.ballerina.lib.avro.observability.WriterFlushEvent;
+import io.ballerina.lib.avro.serialize.visitor.SerializeVisitor;
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DatumWriter;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Encodes a sequence of values back-to-back into a segmented buffer, reusing the same serializer, datum writer
+ * and encoder for every value. The buffered bytes are handed out as segments by {@link #drain()}. A value which fails
+ * to encode is removed from the buffer, so the buffer only holds complete values.
+ *
+ * @since 1.2.1
+ */
+public final class DatumStreamWriter {
+
+    private final Schema schema;
+    private final Serializer serializer;
+    private final SerializeVisitor serializeVisitor;
+    private final DatumWriter<Object> datumWriter;
+    private final SegmentedOutputStream buffer;
+    private final EncodingOptions options;
+    private BinaryEncoder encoder;
+    private int datumCount;
+
+    public DatumStreamWriter(Schema schema, EnumTables enumTables, int bufferSize, EncodingOptions options) {
+        this.schema = schema;
+        this.serializeVisitor = new SerializeVisitor(enumTables);
+        this.serializer = Objects.requireNonNull(MessageFactory.createMessage(schema));
+        this.datumWriter = new BallerinaDatumWriter(schema, options.canonical(), null, null);
+        this.buffer = new SegmentedOutputStream(bufferSize);
+        this.options = options;
+        this.encoder = Encoders.create(buffer, options.blockSize());
+    }
+
+    public synchronized void write(Object data) throws Exception {
+        Object avroData = serializer.convert(serializeVisitor, data);
+        if (options.blockSize() > 0) {
+            // A blocking encoder cannot be flushed in the middle of a block, so it is replaced if the value fails.
+            // It must not hold the bytes of the previous values by then.
+            encoder.flush();
+        }
+        int mark = size();
+        try {
+            datumWriter.write(avroData, encoder);
+        } catch (Exception e) {
+            // Drops the partially written value, so that the buffer still holds only complete values.
+            if (options.blockSize() > 0) {
+                encoder = Encoders.create(buffer, options.blockSize());
+            } else {
+                encoder.flush();
+            }
+            buffer.truncate(mark);
+            throw e;
+        }
+        datumCount++;
+    }
+
+    /**
+     * Returns the number of bytes written since the last drain or reset, including those the encoder still buffers.
+     *
+     * @return the number of pending bytes
+     */
+    public synchronized int size() {
+        return buffer.size() + encoder.bytesBuffered();
+    }
+
+    /**
+     * Returns the bytes written since the last drain or reset and clears the buffer.
+     *
+     * @return the segments holding the pending bytes
+     * @throws IOException if the encoder fails to flush
+     */
+    public synchronized byte[][] drain() throws IOException {
+        WriterFlushEvent event = new WriterFlushEvent();
+        event.begin();
+        encoder.flush();
+        byte[][] segments = buffer.toSegments();
+        event.datumCount = datumCount;
+        event.complete(schema, buffer.size());
+        buffer.reset();
+        datumCount = 0;
+        return segments;
+    }
+
+    /**
+     * Returns the bytes written since the last drain or reset, without clearing the buffer.
+     *
+     * @return the pending bytes
+     * @throws IOException if the encoder fails to flush
+     */
+    public synchronized byte[] peek() throws IOException {
+        encoder.flush();
+        return buffer.toByteArray();
+    }
+
+    public synchronized void reset() throws IOException {
+        encoder.flush();
+        buffer.reset();
+        datumCount = 0;
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.serialize;
+
+import io.ballerina.lib.avro.EnumTables;
+import io.ballerina.lib.avro.serialize.visitor.SerializeVisitor;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.apache.avro.Schema;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Computes the exact size of the Avro binary encoding of a Ballerina value by walking the value with the schema,
+ * without converting or writing it. The schema branches and collection members are resolved the same way as in
+ * {@link SerializeVisitor}. An instance is kept per {@code avro:Schema}, with the field names of its records.
+ *
+ * @since 1.2.1
+ */
+public final class EncodedSize {
+
+    private final EnumTables enumTables;
+    private final SerializeVisitor serializeVisitor;
+    private final Map<Schema, BString[]> fieldNames = new ConcurrentHashMap<>();
+
+    public EncodedSize(EnumTables enumTables) {
+        this.enumTables = enumTables;
+        this.serializeVisitor = new SerializeVisitor(enumTables);
+    }
+
+    public long of(Schema schema, Object data) throws Exception {
+        return switch (schema.getType()) {
+            case NULL -> {
+                if (data != null) {
+                    throw new Exception("The value does not match with the null schema");
+                }
+                yield 0;
+            }
+            case BOOLEAN -> 1;
+            case INT -> varLongSize(((Number) data).intValue());
+            case LONG -> varLongSize(((Number) data).longValue());
+            case FLOAT -> Float.BYTES;
+            case DOUBLE -> Double.BYTES;
+            case STRING -> stringSize(data instanceof BString bString ? bString.getValue() : data.toString());
+            case BYTES -> {
+                int length = ((BArray) data).size();
+                yield varLongSize(length) + length;
+            }
+            case FIXED -> {
+                if (((BArray) data).size() < schema.getFixedSize()) {
+                    throw new Exception("The value is shorter than the fixed size " + schema.getFixedSize());
+                }
+                yield schema.getFixedSize();
+            }
+            case ENUM -> varLongSize(enumTables.of(schema).get(data).getOrdinal());
+            case RECORD -> recordSize(schema, (BMap<?, ?>) data);
+            case MAP -> mapSize(schema.getValueType(), (BMap<?, ?>) data);
+            case ARRAY -> arraySize(schema.getElementType(), (BArray) data);
+            case UNION -> unionSize(schema, data);
+        };
+    }
+
+    private long recordSize(Schema schema, BMap<?, ?> data) throws Exception {
+        BString[] names = fieldNames.computeIfAbsent(schema, EncodedSize::fieldNames);
+        List<Schema.Field> fields = schema.getFields();
+        long size = 0;
+        for (int i = 0; i < names.length; i++) {
+            size += of(fields.get(i).schema(), data.get(names[i]));
+        }
+        return size;
+    }
+
+    private long mapSize(Schema valueSchema, BMap<?, ?> data) throws Exception {
+        if (data.isEmpty()) {
+            return 1;
+        }
+        long size = varLongSize(data.size()) + 1;
+        for (Map.Entry<?, ?> entry : data.entrySet()) {
+            size += stringSize(entry.getKey().toString()) + of(valueSchema, entry.getValue());
+        }
+        return size;
+    }
+
+    private long arraySize(Schema elementSchema, BArray data) throws Exception {
+        int length = data.size();
+        switch (elementSchema.getType()) {
+            case BOOLEAN -> {
+                return length == 0 ? 1 : varLongSize(length) + length + 1;
+            }
+            case FLOAT, DOUBLE -> {
+                int width = elementSchema.getType() == Schema.Type.FLOAT ? Float.BYTES : Double.BYTES;
+                return length == 0 ? 1 : varLongSize(length) + (long) length * width + 1;
+            }
+            case INT, LONG -> {
+                long size = 0;
+                for (int i = 0; i < length; i++) {
+                    long value = data.getInt(i);
+                    size += varLongSize(elementSchema.getType() == Schema.Type.INT ? (int) value : value);
+                }
+                return length == 0 ? 1 : varLongSize(length) + size + 1;
+            }
+            default -> {
+                // The array visitors drop nil members, and write the members of a union with its first supported
+                // branch.
+                int branchIndex = -1;
+                Schema memberSchema = elementSchema;
+                if (elementSchema.getType() == Schema.Type.UNION) {
+                    branchIndex = arrayBranch(elementSchema);
+                    memberSchema = elementSchema.getTypes().get(branchIndex);
+                }
+                long size = 0;
+                int count = 0;
+                for (int i = 0; i < length; i++) {
+                    Object member = data.get(i);
+                    if (member != null) {
+                        size += (branchIndex < 0 ? 0 : varLongSize(branchIndex)) + of(memberSchema, member);
+                        count++;
+                    }
+                }
+                return count == 0 ? 1 : varLongSize(count) + size + 1;
+            }
+        }
+    }
+
+    private long unionSize(Schema schema, Object data) throws Exception {
+        int tag = TypeUtils.getType(data).getTag();
+        List<Schema> types = schema.getTypes();
+        for (int i = 0; i < types.size(); i++) {
+            if (serializeVisitor.deriveBallerinaTag(types.get(i)).contains(tag)) {
+                return varLongSize(i) + of(types.get(i), data);
+            }
+        }
+        throw new Exception("Value does not match with the Avro union types");
+    }
+
+    private static int arrayBranch(Schema union) throws Exception {
+        List<Schema> types = union.getTypes();
+        for (int i = 0; i < types.size(); i++) {
+            Schema.Type type = types.get(i).getType();
+            if (type != Schema.Type.NULL && type != Schema.Type.ENUM && type != Schema.Type.UNION) {
+                return i;
+            }
+        }
+        throw new Exception("Value does not match with the Avro union types");
+    }
+
+    private static BString[] fieldNames(Schema schema) {
+        return schema.getFields().stream().map(field -> StringUtils.fromString(field.name())).toArray(BString[]::new);
+    }
+
+    private static long stringSize(String value) {
+        int length = value.length();
+        long utf8Length = length;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x800) {
+                // A surrogate pair takes four bytes in total, i.e., two per char.
+                utf8Length += Character.isSurrogate(c) ? 1 : 2;
+            } else if (c >= 0x80) {
+                utf8Length++;
+            }
+        }
+        return varLongSize(utf8Length) + utf8Length;
+    }
+
+    private static int varLongSize(long value) {
+        long zigZag = (value << 1) ^ (value >> 63);
+        int bits = Math.max(1, Long.SIZE - Long.numberOfLeadingZeros(zigZag));
+        return (bits + 6) / 7;
+    }
+}
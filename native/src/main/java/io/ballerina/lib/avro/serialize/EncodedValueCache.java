@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.serialize;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BRefValue;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * A bounded cache of the encodings of immutable values, looked up by the identity of the value. A frozen map or
+ * array cannot change, so serializing the same instance again gives the same bytes. The values are weakly referenced,
+ * so the cache does not keep them alive.
+ *
+ * @since 1.2.1
+ */
+public final class EncodedValueCache {
+
+    static final int MAX_CAPACITY = 1 << 16;
+
+    private final Entry[] entries;
+    private final int mask;
+
+    public EncodedValueCache(long size) {
+        int capacity = 1;
+        while (capacity < size && capacity < MAX_CAPACITY) {
+            capacity <<= 1;
+        }
+        this.entries = new Entry[capacity];
+        this.mask = capacity - 1;
+    }
+
+    public static boolean isCacheable(Object value) {
+        return (value instanceof BMap<?, ?> || value instanceof BArray) && ((BRefValue) value).isFrozen();
+    }
+
+    /**
+     * Returns the cached encoding of the given value.
+     *
+     * @param value an immutable value
+     * @return the encoding, which must not be modified, or null if it is not cached
+     */
+    public byte[] get(Object value) {
+        Entry entry = entries[System.identityHashCode(value) & mask];
+        return entry != null && entry.value.get() == value ? entry.bytes : null;
+    }
+
+    public void put(Object value, byte[] bytes) {
+        // Entries are immutable, so a racing reader sees either the old or the new entry.
+        entries[System.identityHashCode(value) & mask] = new Entry(new WeakReference<>(value), bytes);
+    }
+
+    private record Entry(WeakReference<Object> value, byte[] bytes) {
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.serialize;
+
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.Encoder;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.util.Utf8;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Creates the binary encoders of the serializers, and writes strings to them.
+ *
+ * @since 1.2.1
+ */
+public final class Encoders {
+
+    // Longer strings are written by the encoder itself, so that a thread does not keep a large buffer alive.
+    private static final int MAX_BUFFERED_LENGTH = 1 << 16;
+    private static final ThreadLocal<Utf8> UTF8_BUFFER = ThreadLocal.withInitial(Utf8::new);
+
+    private Encoders() {}
+
+    /**
+     * Creates a buffered binary encoder. If a block size is given, arrays and maps are written in blocks of at most
+     * that many bytes, each prefixed with its size in bytes, so that readers can skip them without decoding the items.
+     *
+     * @param outputStream the stream to write to
+     * @param blockSize the maximum size of a block in bytes, or zero to write arrays and maps as single blocks
+     * @return the binary encoder
+     */
+    public static BinaryEncoder create(OutputStream outputStream, int blockSize) {
+        if (blockSize <= 0) {
+            return EncoderFactory.get().binaryEncoder(outputStream, null);
+        }
+        // The block size is a setting of the factory, so the shared factory must not be configured.
+        return new EncoderFactory().configureBlockSize(blockSize).blockingBinaryEncoder(outputStream, null);
+    }
+
+    /**
+     * Writes a string as its UTF-8 bytes, encoded into a buffer which is reused by the thread. This writes the same
+     * bytes as {@link Encoder#writeString(String)}, which allocates a new byte array for each string.
+     *
+     * @param encoder the encoder to write to
+     * @param value the string
+     * @throws IOException if the string could not be written
+     */
+    public static void writeString(Encoder encoder, String value) throws IOException {
+        int length = value.length();
+        if (length > MAX_BUFFERED_LENGTH) {
+            encoder.writeString(value);
+            return;
+        }
+        Utf8 buffer = UTF8_BUFFER.get();
+        // A char takes at most 3 bytes, and a surrogate pair takes 4 bytes.
+        buffer.setByteLength(length * 3);
+        buffer.setByteLength(encodeUtf8(value, buffer.getBytes()));
+        encoder.writeString(buffer);
+    }
+
+    private static int encodeUtf8(String value, byte[] bytes) {
+        int length = value.length();
+        int position = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                bytes[position++] = (byte) c;
+            } else if (c < 0x800) {
+                bytes[position++] = (byte) (0xc0 | (c >> 6));
+                bytes[position++] = (byte) (0x80 | (c & 0x3f));
+            } else if (!Character.isSurrogate(c)) {
+                bytes[position++] = (byte) (0xe0 | (c >> 12));
+                bytes[position++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                bytes[position++] = (byte) (0x80 | (c & 0x3f));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                bytes[position++] = (byte) (0xf0 | (codePoint >> 18));
+                bytes[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+                bytes[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+                bytes[position++] = (byte) (0x80 | (codePoint & 0x3f));
+            } else {
+                // An unpaired surrogate is replaced as String.getBytes replaces it.
+                bytes[position++] = '?';
+            }
+        }
+        return position;
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.serialize;
+
+/**
+ * The options of the Avro binary encoding.
+ *
+ * @param blockSize the maximum size of a block of array items or map entries in bytes, or zero to write each array
+ *                  and map as a single block
+ * @param canonical whether to write the entries of maps sorted by their keys, so that equal values always have the
+ *                  same encoding
+ * @since 1.2.1
+ */
+public record EncodingOptions(int blockSize, boolean canonical) {
+
+    public static final EncodingOptions DEFAULT = new EncodingOptions(0, false);
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.serialize;
+
+import java.io.OutputStream;
+
+/**
+ * An output stream which computes the 64-bit FNV-1a hash of the bytes written to it, without keeping them.
+ *
+ * @since 1.2.1
+ */
+public final class HashingOutputStream extends OutputStream {
+
+    private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long PRIME = 0x100000001b3L;
+
+    private long hash = OFFSET_BASIS;
+    private int size;
+
+    @Override
+    public void write(int b) {
+        hash = (hash ^ (b & 0xff)) * PRIME;
+        size++;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        long value = hash;
+        for (int i = offset; i < offset + length; i++) {
+            value = (value ^ (bytes[i] & 0xff)) * PRIME;
+        }
+        hash = value;
+        size += length;
+    }
+
+    public long getHash() {
+        return hash;
+    }
+
+    public int size() {
+        return size;
+    }
+}
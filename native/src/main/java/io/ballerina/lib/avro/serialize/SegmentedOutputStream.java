@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.serialize;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An output stream which writes into a chain of fixed-size segments instead of one growing array. A large message
+ * then never needs a contiguous array, nor the copies made while growing one, and the segments can be handed out
+ * as they are.
+ *
+ * @since 1.2.1
+ */
+public final class SegmentedOutputStream extends OutputStream {
+
+    public static final int DEFAULT_SEGMENT_SIZE = 65536;
+
+    private final int segmentSize;
+    private final List<byte[]> segments = new ArrayList<>();
+    private int size;
+
+    public SegmentedOutputStream(int segmentSize) {
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("The segment size must be positive: " + segmentSize);
+        }
+        this.segmentSize = segmentSize;
+    }
+
+    @Override
+    public void write(int b) {
+        currentSegment()[size % segmentSize] = (byte) b;
+        size++;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        while (length > 0) {
+            byte[] segment = currentSegment();
+            int position = size % segmentSize;
+            int count = Math.min(length, segmentSize - position);
+            System.arraycopy(bytes, offset, segment, position, count);
+            size += count;
+            offset += count;
+            length -= count;
+        }
+    }
+
+    private byte[] currentSegment() {
+        if (size == segments.size() * segmentSize) {
+            segments.add(new byte[segmentSize]);
+        }
+        return segments.get(segments.size() - 1);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Discards the bytes written after the given size.
+     *
+     * @param newSize the number of bytes to keep
+     */
+    public void truncate(int newSize) {
+        int segmentCount = (newSize + segmentSize - 1) / segmentSize;
+        segments.subList(segmentCount, segments.size()).clear();
+        size = newSize;
+    }
+
+    /**
+     * Returns the written bytes as segments. All the segments but the last are full and are returned without copying,
+     * so the stream must be reset before it is written again.
+     *
+     * @return the segments holding the written bytes
+     */
+    public byte[][] toSegments() {
+        byte[][] result = segments.toArray(new byte[0][]);
+        int lastLength = size - (result.length - 1) * segmentSize;
+        if (result.length > 0 && lastLength < segmentSize) {
+            result[result.length - 1] = Arrays.copyOf(result[result.length - 1], lastLength);
+        }
+        return result;
+    }
+
+    public byte[] toByteArray() {
+        byte[] result = new byte[size];
+        for (int i = 0, offset = 0; offset < size; i++, offset += segmentSize) {
+            System.arraycopy(segments.get(i), 0, result, offset, Math.min(segmentSize, size - offset));
+        }
+        return result;
+    }
+
+    public void reset() {
+        segments.clear();
+        size = 0;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.serialize;
+
+/**
+ * Tracks a running estimate of the encoded message size of a schema, used to presize the output buffers.
+ * The estimate follows a decayed maximum: it rises to a larger message immediately and falls back by a sixteenth
+ * of the difference for each smaller message, so it stays close to a high percentile of the recent sizes.
+ *
+ * @since 1.2.1
+ */
+public final class SizeEstimator {
+
+    private static final int MIN_CAPACITY = 32;
+    private static final int MAX_CAPACITY = 16 << 20;
+    private static final int DECAY_SHIFT = 4;
+
+    // Concurrent updates may overwrite each other, which only delays the estimate by a message.
+    private volatile int estimate = MIN_CAPACITY;
+
+    public int getEstimate() {
+        return estimate;
+    }
+
+    /**
+     * Returns the capacity to allocate for the next message. Messages larger than the maximum capacity still grow
+     * their buffers, rather than an outlier allocating a very large buffer for every message.
+     *
+     * @return the initial buffer capacity
+     */
+    public int getInitialCapacity() {
+        return Math.min(estimate, MAX_CAPACITY);
+    }
+
+    public void record(int size) {
+        int current = estimate;
+        estimate = size >= current ? size : Math.max(MIN_CAPACITY, current - ((current - size) >> DECAY_SHIFT));
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.lib.avro.serialize;
+
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * Generates a synthetic message of a schema, which exercises every record field, a member of every array and map,
+ * and the first non-null branch of every union. Below a nesting depth, arrays and maps are left empty and unions take
+ * their null branch, so that recursive schemas generate a finite message.
+ *
+ * @since 1.2.1
+ */
+public final class SyntheticMessage {
+
+    private static final int MAX_DEPTH = 8;
+    private static final int MAX_RECORD_DEPTH = 64;
+    private static final String TEXT = "text";
+
+    private SyntheticMessage() {}
+
+    public static byte[] of(Schema schema) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(outputStream, null);
+        write(schema, encoder, 0);
+        encoder.flush();
+        return outputStream.toByteArray();
+    }
+
+    private static void write(Schema schema, BinaryEncoder encoder, int depth) throws IOException {
+        switch (schema.getType()) {
+            case NULL -> encoder.writeNull();
+            case BOOLEAN -> encoder.writeBoolean(true);
+            case INT -> encoder.writeInt(1);
+            case LONG -> encoder.writeLong(1);
+            case FLOAT -> encoder.writeFloat(1);
+            case DOUBLE -> encoder.writeDouble(1);
+            case STRING -> encoder.writeString(TEXT);
+            case BYTES -> encoder.writeBytes(new byte[]{1});
+            case FIXED -> encoder.writeFixed(new byte[schema.getFixedSize()]);
+            case ENUM -> encoder.writeEnum(0);
+            case RECORD -> {
+                if (depth > MAX_RECORD_DEPTH) {
+                    throw new IOException("The record " + schema.getFullName() + " has no finite value");
+                }
+                for (Schema.Field field : schema.getFields()) {
+                    write(field.schema(), encoder, depth + 1);
+                }
+            }
+            case ARRAY -> {
+                encoder.writeArrayStart();
+                encoder.setItemCount(depth < MAX_DEPTH ? 1 : 0);
+                if (depth < MAX_DEPTH) {
+                    encoder.startItem();
+                    write(schema.getElementType(), encoder, depth + 1);
+                }
+                encoder.writeArrayEnd();
+            }
+            case MAP -> {
+                encoder.writeMapStart();
+                encoder.setItemCount(depth < MAX_DEPTH ? 1 : 0);
+                if (depth < MAX_DEPTH) {
+                    encoder.startItem();
+                    encoder.writeString(TEXT);
+                    write(schema.getValueType(), encoder, depth + 1);
+                }
+                encoder.writeMapEnd();
+            }
+            case UNION -> {
+                int branch = unionBranch(schema, depth);
+                encoder.writeIndex(branch);
+                write(schema.getTypes().get(branch), encoder, depth + 1);
+            }
+        }
+    }
+
+    private static int unionBranch(Schema schema, int depth) {
+        Integer nullBranch = schema.getIndexNamed(Schema.Type.NULL.getName());
+        if (nullBranch != null && depth >= MAX_DEPTH) {
+            return nullBranch;
+        }
+        for (int i = 0; i < schema.getTypes().size(); i++) {
+            if (schema.getTypes().get(i).getType() != Schema.Type.NULL) {
+                return i;
+            }
+        }
+        return 0;
+    }
+}
@@ -18,6 +18,7 @@
 
 package io.ballerina.lib.avro.serialize.visitor;
 
+import io.ballerina.lib.avro.EnumTables;
 import io.ballerina.lib.avro.serialize.ArraySerializer;
 import io.ballerina.lib.avro.serialize.EnumSerializer;
 import io.ballerina.lib.avro.serialize.FixedSerializer;
@@ -36,6 +37,7 @@ import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
@@ -49,6 +51,16 @@ import java.util.Objects;
 
 public class SerializeVisitor implements ISerializeVisitor {
 
+    private final EnumTables enumTables;
+
+    public SerializeVisitor(EnumTables enumTables) {
+        this.enumTables = enumTables;
+    }
+
+    public EnumTables getEnumTables() {
+        return enumTables;
+    }
+
     public Serializer createSerializer(Schema schema) {
         return switch (schema.getValueType().getType()) {
             case INT, LONG, FLOAT, DOUBLE, BOOLEAN, STRING, BYTES ->
@@ -125,7 +137,7 @@ public class SerializeVisitor implements ISerializeVisitor {
                 byteBuffer.position(0);
                 yield byteBuffer;
             }
-            case STRING -> data.toString();
+            case STRING -> data instanceof BString bString ? bString.getValue() : data.toString();
             case NULL -> {
                 if (data != null) {
                     throw new Exception("The value does not match with the null schema");
@@ -155,7 +167,7 @@ public class SerializeVisitor implements ISerializeVisitor {
 
     @Override
     public Object visit(EnumSerializer enumSerializer, Object data) {
-        return new GenericData.EnumSymbol(enumSerializer.getSchema(), data);
+        return enumTables.of(enumSerializer.getSchema()).get(data);
     }
 
     @Override
@@ -165,7 +177,7 @@ public class SerializeVisitor implements ISerializeVisitor {
 
     public GenericData.Array<Object> visit(ArraySerializer arraySerializer, BArray data) {
         GenericData.Array<Object> array = new GenericData.Array<>(data.size(), arraySerializer.getSchema());
-        IArrayVisitor visitor = ArrayVisitorFactory.createVisitor(arraySerializer.getSchema());
+        IArrayVisitor visitor = ArrayVisitorFactory.createVisitor(arraySerializer.getSchema(), this);
         return Objects.requireNonNull(visitor).visit(data, arraySerializer.getSchema(), array);
     }
 
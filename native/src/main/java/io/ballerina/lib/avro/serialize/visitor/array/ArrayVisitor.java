@@ -28,12 +28,19 @@ import java.util.Arrays;
 import java.util.Objects;
 
 public class ArrayVisitor implements IArrayVisitor {
+
+    private final SerializeVisitor serializeVisitor;
+
+    public ArrayVisitor(SerializeVisitor serializeVisitor) {
+        this.serializeVisitor = serializeVisitor;
+    }
+
     public GenericData.Array<Object> visit(BArray data, Schema schema, GenericData.Array<Object> array) {
         Arrays.stream(data.getValues())
                 .filter(Objects::nonNull)
                 .forEach(value -> {
                     try {
-                        array.add(new SerializeVisitor().visit(new ArraySerializer(schema.getElementType()),
+                        array.add(serializeVisitor.visit(new ArraySerializer(schema.getElementType()),
                                 (BArray) value));
                     } catch (Exception e) {
                         throw new RuntimeException(e);
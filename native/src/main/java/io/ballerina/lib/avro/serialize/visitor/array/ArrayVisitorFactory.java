@@ -18,25 +18,26 @@
 
 package io.ballerina.lib.avro.serialize.visitor.array;
 
+import io.ballerina.lib.avro.serialize.visitor.SerializeVisitor;
 import org.apache.avro.Schema;
 
 public class ArrayVisitorFactory {
-    public static IArrayVisitor createVisitor(Schema schema) {
+    public static IArrayVisitor createVisitor(Schema schema, SerializeVisitor serializeVisitor) {
         switch (schema.getElementType().getType()) {
             case NULL:
                 return null;
             case ARRAY:
-                return new ArrayVisitor();
+                return new ArrayVisitor(serializeVisitor);
             case ENUM:
-                return new EnumArrayVisitor();
+                return new EnumArrayVisitor(serializeVisitor);
             case UNION:
-                return new UnionArrayVisitor();
+                return new UnionArrayVisitor(serializeVisitor);
             case FIXED:
                 return new FixedArrayVisitor();
             case RECORD:
-                return new RecordArrayVisitor();
+                return new RecordArrayVisitor(serializeVisitor);
             case MAP:
-                return new MapArrayVisitor();
+                return new MapArrayVisitor(serializeVisitor);
             default:
                 return new PrimitiveArrayVisitor();
         }
@@ -18,6 +18,8 @@
 
 package io.ballerina.lib.avro.serialize.visitor.array;
 
+import io.ballerina.lib.avro.EnumSymbols;
+import io.ballerina.lib.avro.serialize.visitor.SerializeVisitor;
 import io.ballerina.runtime.api.values.BArray;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
@@ -26,17 +28,19 @@ import java.util.Arrays;
 import java.util.Objects;
 
 public class EnumArrayVisitor implements IArrayVisitor {
+
+    private final SerializeVisitor serializeVisitor;
+
+    public EnumArrayVisitor(SerializeVisitor serializeVisitor) {
+        this.serializeVisitor = serializeVisitor;
+    }
+
     @Override
     public GenericData.Array<Object> visit(BArray data, Schema schema, GenericData.Array<Object> array) {
+        EnumSymbols symbols = serializeVisitor.getEnumTables().of(schema.getElementType());
         Arrays.stream((data.getValues() == null) ? data.getStringArray() : data.getValues())
                 .filter(Objects::nonNull)
-                .forEach(value -> {
-                    try {
-                        array.add(new GenericData.EnumSymbol(schema.getElementType(), value));
-                    } catch (Exception e) {
-                        throw new RuntimeException(e);
-                    }
-                });
+                .forEach(value -> array.add(symbols.get(value)));
         return array;
     }
 }
@@ -29,14 +29,21 @@ import java.util.Arrays;
 import java.util.Objects;
 
 public class MapArrayVisitor implements IArrayVisitor {
+
+    private final SerializeVisitor serializeVisitor;
+
+    public MapArrayVisitor(SerializeVisitor serializeVisitor) {
+        this.serializeVisitor = serializeVisitor;
+    }
+
     @Override
     public GenericData.Array<Object> visit(BArray data, Schema schema, GenericData.Array<Object> array) {
         Arrays.stream(data.getValues())
                 .filter(Objects::nonNull)
                 .forEach(record -> {
                     try {
-                        array.add(new SerializeVisitor().visit(new MapSerializer(schema.getElementType()),
-                                                               (BMap<?, ?>) record));
+                        array.add(serializeVisitor.visit(new MapSerializer(schema.getElementType()),
+                                                         (BMap<?, ?>) record));
                     } catch (Exception e) {
                         throw new RuntimeException(e);
                     }
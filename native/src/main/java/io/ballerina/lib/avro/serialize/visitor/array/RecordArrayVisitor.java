@@ -29,13 +29,20 @@ import java.util.Arrays;
 import java.util.Objects;
 
 public class RecordArrayVisitor implements IArrayVisitor {
+
+    private final SerializeVisitor serializeVisitor;
+
+    public RecordArrayVisitor(SerializeVisitor serializeVisitor) {
+        this.serializeVisitor = serializeVisitor;
+    }
+
     @Override
     public GenericData.Array<Object> visit(BArray data, Schema schema, GenericData.Array<Object> array) {
         Arrays.stream(data.getValues())
                 .filter(Objects::nonNull)
                 .forEach(record -> {
                     try {
-                        array.add(new SerializeVisitor()
+                        array.add(serializeVisitor
                                 .visit(new RecordSerializer(schema.getElementType()), (BMap<?, ?>) record));
                     } catch (Exception e) {
                         throw new RuntimeException(e);
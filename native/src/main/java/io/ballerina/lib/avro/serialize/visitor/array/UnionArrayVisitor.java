@@ -18,6 +18,7 @@
 
 package io.ballerina.lib.avro.serialize.visitor.array;
 
+import io.ballerina.lib.avro.serialize.visitor.SerializeVisitor;
 import io.ballerina.runtime.api.values.BArray;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
@@ -27,12 +28,19 @@ import java.util.Map;
 import static java.util.Map.entry;
 
 public class UnionArrayVisitor implements IArrayVisitor {
+
+    private final SerializeVisitor serializeVisitor;
+
+    public UnionArrayVisitor(SerializeVisitor serializeVisitor) {
+        this.serializeVisitor = serializeVisitor;
+    }
+
     @Override
     public GenericData.Array<Object> visit(BArray data, Schema schema, GenericData.Array<Object> array) {
         Map<Schema.Type, IArrayVisitor> visitorMap = Map.ofEntries(
-                entry(Schema.Type.ARRAY, new ArrayVisitor()),
-                entry(Schema.Type.MAP, new MapArrayVisitor()),
-                entry(Schema.Type.RECORD, new RecordArrayVisitor()),
+                entry(Schema.Type.ARRAY, new ArrayVisitor(serializeVisitor)),
+                entry(Schema.Type.MAP, new MapArrayVisitor(serializeVisitor)),
+                entry(Schema.Type.RECORD, new RecordArrayVisitor(serializeVisitor)),
                 entry(Schema.Type.FIXED, new FixedArrayVisitor()),
                 entry(Schema.Type.BOOLEAN, new PrimitiveArrayVisitor()),
                 entry(Schema.Type.STRING, new PrimitiveArrayVisitor()),
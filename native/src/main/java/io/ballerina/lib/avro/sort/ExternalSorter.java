@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.sort;
+
+import io.ballerina.lib.avro.deserialize.PositionedInputStream;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaNormalization;
+import org.apache.avro.file.DataFileStream;
+import org.apache.avro.file.DataFileWriter;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.io.BinaryData;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.DecoderFactory;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Sorts encoded messages in the sort order of a schema, comparing their binary encodings. The messages are collected
+ * into runs of a bounded size. A full run is sorted and spilled to a temporary container file, and the spilled runs
+ * are merged with the last run into the output container file. The sort is stable.
+ *
+ * @since 1.2.1
+ */
+public final class ExternalSorter implements Closeable {
+
+    private static final String RUN_DIRECTORY_PREFIX = "avro-sort";
+
+    private final Schema schema;
+    private final long runSize;
+    private final Path tempDirectory;
+    private final Comparator<byte[]> comparator;
+    private final List<byte[]> run = new ArrayList<>();
+    private final List<Path> spilledRuns = new ArrayList<>();
+    private long runBytes;
+    private Path runDirectory;
+
+    /**
+     * Creates a sorter.
+     *
+     * @param schema the schema of the messages
+     * @param runSize the number of encoded bytes to hold in memory before a run is spilled
+     * @param tempDirectory the directory to create the spilled runs in, or null for the default temporary directory
+     */
+    public ExternalSorter(Schema schema, long runSize, Path tempDirectory) {
+        this.schema = schema;
+        this.runSize = runSize;
+        this.tempDirectory = tempDirectory;
+        this.comparator = (first, second) -> BinaryData.compare(first, 0, first.length, second, 0, second.length,
+                schema);
+    }
+
+    /**
+     * Adds an encoded message.
+     *
+     * @param datum the encoded message, which is kept by the sorter
+     * @throws IOException if the bytes are not a single message of the schema or a run fails to spill
+     */
+    public synchronized void add(byte[] datum) throws IOException {
+        PositionedInputStream inputStream = new PositionedInputStream(datum, 0, datum.length);
+        GenericDatumReader.skip(schema, DecoderFactory.get().directBinaryDecoder(inputStream, null));
+        if (inputStream.position() != datum.length) {
+            throw new IOException("The message has " + (datum.length - inputStream.position()) + " trailing bytes");
+        }
+        addDatum(datum);
+    }
+
+    /**
+     * Adds the messages of a container file, which must be written with the same schema.
+     *
+     * @param file the container file
+     * @throws IOException if the file cannot be read or a run fails to spill
+     */
+    public synchronized void addContainerFile(Path file) throws IOException {
+        try (DataFileStream<Object> stream = openContainerFile(file)) {
+            long fingerprint = SchemaNormalization.parsingFingerprint64(schema);
+            if (SchemaNormalization.parsingFingerprint64(stream.getSchema()) != fingerprint) {
+                throw new IOException("The container file '" + file + "' is not written with the schema");
+            }
+            while (stream.hasNext()) {
+                ByteBuffer block = stream.nextBlock();
+                for (byte[] datum : split(block, stream.getBlockCount())) {
+                    addDatum(datum);
+                }
+            }
+        }
+    }
+
+    private void addDatum(byte[] datum) throws IOException {
+        run.add(datum);
+        runBytes += datum.length;
+        if (runBytes >= runSize) {
+            spill();
+        }
+    }
+
+    private void spill() throws IOException {
+        run.sort(comparator);
+        if (runDirectory == null) {
+            runDirectory = tempDirectory == null ? Files.createTempDirectory(RUN_DIRECTORY_PREFIX)
+                    : Files.createTempDirectory(tempDirectory, RUN_DIRECTORY_PREFIX);
+        }
+        Path file = runDirectory.resolve("run-" + spilledRuns.size() + ".avro");
+        spilledRuns.add(file);
+        try (DataFileWriter<Object> writer = createContainerFile(file)) {
+            for (byte[] datum : run) {
+                writer.appendEncoded(ByteBuffer.wrap(datum));
+            }
+        }
+        run.clear();
+        runBytes = 0;
+    }
+
+    /**
+     * Writes all the messages added so far in sorted order to a container file, and clears the sorter.
+     *
+     * @param output the container file to write
+     * @throws IOException if the output or a spilled run fails
+     */
+    public synchronized void sortTo(Path output) throws IOException {
+        run.sort(comparator);
+        List<Cursor> cursors = new ArrayList<>();
+        try (DataFileWriter<Object> writer = createContainerFile(output)) {
+            if (spilledRuns.isEmpty()) {
+                for (byte[] datum : run) {
+                    writer.appendEncoded(ByteBuffer.wrap(datum));
+                }
+                return;
+            }
+            for (Path file : spilledRuns) {
+                cursors.add(new FileCursor(cursors.size(), openContainerFile(file)));
+            }
+            // The run in memory holds the last messages, so it goes last to keep the merge stable.
+            cursors.add(new Cursor(cursors.size(), run.iterator()));
+            merge(cursors, writer);
+        } finally {
+            for (Cursor cursor : cursors) {
+                cursor.close();
+            }
+            clear();
+        }
+    }
+
+    private void merge(List<Cursor> cursors, DataFileWriter<Object> writer) throws IOException {
+        PriorityQueue<Cursor> queue = new PriorityQueue<>((first, second) -> {
+            int result = comparator.compare(first.current, second.current);
+            return result != 0 ? result : Integer.compare(first.index, second.index);
+        });
+        for (Cursor cursor : cursors) {
+            if (cursor.advance()) {
+                queue.add(cursor);
+            }
+        }
+        while (!queue.isEmpty()) {
+            Cursor cursor = queue.poll();
+            writer.appendEncoded(ByteBuffer.wrap(cursor.current));
+            if (cursor.advance()) {
+                queue.add(cursor);
+            }
+        }
+    }
+
+    private void clear() throws IOException {
+        run.clear();
+        runBytes = 0;
+        for (Path file : spilledRuns) {
+            Files.deleteIfExists(file);
+        }
+        spilledRuns.clear();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        clear();
+        if (runDirectory != null) {
+            Files.deleteIfExists(runDirectory);
+            runDirectory = null;
+        }
+    }
+
+    private DataFileWriter<Object> createContainerFile(Path file) throws IOException {
+        return new DataFileWriter<>(new GenericDatumWriter<>(schema)).create(schema, file.toFile());
+    }
+
+    private static DataFileStream<Object> openContainerFile(Path file) throws IOException {
+        return new DataFileStream<>(new BufferedInputStream(Files.newInputStream(file)), new GenericDatumReader<>());
+    }
+
+    /**
+     * Splits a block of a container file into its messages, finding the end of each message by skipping it.
+     */
+    private List<byte[]> split(ByteBuffer block, long count) throws IOException {
+        byte[] array = block.array();
+        int offset = block.arrayOffset() + block.position();
+        PositionedInputStream inputStream = new PositionedInputStream(array, offset, block.remaining());
+        BinaryDecoder decoder = DecoderFactory.get().directBinaryDecoder(inputStream, null);
+        List<byte[]> data = new ArrayList<>((int) count);
+        for (long i = 0; i < count; i++) {
+            int start = inputStream.position();
+            GenericDatumReader.skip(schema, decoder);
+            data.add(Arrays.copyOfRange(array, start, inputStream.position()));
+        }
+        return data;
+    }
+
+    /**
+     * Iterates over the sorted messages of a run.
+     */
+    private static class Cursor implements Closeable {
+
+        private final int index;
+        private Iterator<byte[]> data;
+        private byte[] current;
+
+        private Cursor(int index, Iterator<byte[]> data) {
+            this.index = index;
+            this.data = data;
+        }
+
+        boolean advance() throws IOException {
+            while (!data.hasNext()) {
+                Iterator<byte[]> next = nextBlock();
+                if (next == null) {
+                    return false;
+                }
+                data = next;
+            }
+            current = data.next();
+            return true;
+        }
+
+        Iterator<byte[]> nextBlock() throws IOException {
+            return null;
+        }
+
+        @Override
+        public void close() throws IOException {
+            // The run in memory holds no resources.
+        }
+    }
+
+    /**
+     * Iterates over the sorted messages of a spilled run, holding one block of the run in memory at a time.
+     */
+    private final class FileCursor extends Cursor {
+
+        private final DataFileStream<Object> stream;
+
+        private FileCursor(int index, DataFileStream<Object> stream) {
+            super(index, Collections.emptyIterator());
+            this.stream = stream;
+        }
+
+        @Override
+        Iterator<byte[]> nextBlock() throws IOException {
+            if (!stream.hasNext()) {
+                return null;
+            }
+            ByteBuffer block = stream.nextBlock();
+            return split(block, stream.getBlockCount()).iterator();
+        }
+
+        @Override
+        public void close() throws IOException {
+            stream.close();
+        }
+    }
+}